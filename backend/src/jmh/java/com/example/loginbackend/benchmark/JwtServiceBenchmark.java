@@ -0,0 +1,78 @@
+package com.example.loginbackend.benchmark;
+
+import com.example.loginbackend.entity.User;
+import com.example.loginbackend.service.JwtService;
+import com.example.loginbackend.service.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 경로 벤치마크
+ * 파싱+서명 검증(캐시 미사용), 검증 캐시 적중, 필터가 사용하는 validateToken을 각각 측정합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    @Param({"false", "true"})
+    private boolean statelessAuth;
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // application.yml과 같은 설정으로 생성
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", "mySecretKey123456789012345678901234567890");
+        ReflectionTestUtils.setField(jwtService, "expiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "cacheMaxSize", 10000L);
+        ReflectionTestUtils.setField(jwtService, "statelessAuthEnabled", statelessAuth);
+        jwtService.init();
+
+        user = new User("bench@example.com", "password", "벤치마크");
+        user.setId(1L);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    // 캐시를 거치지 않는 파싱 + 서명 검증
+    @Benchmark
+    public String parseAndVerify() {
+        return jwtService.extractClaim(token, Claims::getSubject);
+    }
+
+    // 검증 캐시 적중
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return jwtService.verify(token);
+    }
+
+    // 필터의 검증 경로 (verify + 사용자 일치/만료 확인)
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtService.validateToken(jwtService.verify(token), user);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.loginbackend.benchmark;
+
+import com.example.loginbackend.dto.PostDetailResponse;
+import com.example.loginbackend.dto.PostListResponse;
+import com.example.loginbackend.dto.PostResponse;
+import com.example.loginbackend.dto.PostSummaryRows;
+import com.example.loginbackend.entity.Post;
+import com.example.loginbackend.mapper.PostMapper;
+import com.example.loginbackend.service.PostSummaryStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 응답 변환 벤치마크
+ * PostResponse.from / fromSummary 변환과 PostController가 돌려주는 목록/상세 응답 본문의 JSON 직렬화를 측정합니다.
+ * 목록은 DB 조회 결과(Post 목록)와 메모리 목록 저장소 페이지 두 경로를 모두 측정합니다. (-prof gc로 요청당 할당량 비교)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostResponseBenchmark {
+
+    private static final long TOTAL_COUNT = 1000;
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private Post post;
+    private List<Post> page;
+    private int totalPages;
+    private PostSummaryStore store;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        post = createPost(1L);
+        page = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            page.add(createPost(id));
+        }
+        totalPages = (int) Math.ceil((double) TOTAL_COUNT / pageSize);
+        store = createStore(page);
+        // 스프링 부트 기본 설정과 같게 날짜를 ISO 문자열로 직렬화
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public PostResponse from() {
+        return PostResponse.from(post);
+    }
+
+    @Benchmark
+    public List<PostResponse> fromSummaryPage() {
+        return page.stream()
+                .map(PostResponse::fromSummary)
+                .collect(Collectors.toList());
+    }
+
+    // GET /posts 응답 본문 구성 + JSON 직렬화 (DB 조회 경로: Post 행을 JsonGenerator로 바로 씀)
+    @Benchmark
+    public byte[] listEnvelopeJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                PostListResponse.page(PostSummaryRows.of(page), 0, totalPages, TOTAL_COUNT));
+    }
+
+    // GET /posts 응답 본문 구성 + JSON 직렬화 (목록 저장소 경로: 행 객체 없이 컬럼 값을 바로 씀)
+    @Benchmark
+    public byte[] storeListEnvelopeJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                PostListResponse.page(store.page(0, pageSize), 0, totalPages, TOTAL_COUNT));
+    }
+
+    // 비교용: PostResponse 목록을 HashMap 봉투에 담아 리플렉션으로 직렬화하던 이전 방식
+    @Benchmark
+    public byte[] hashMapListEnvelopeJson() throws JsonProcessingException {
+        List<PostResponse> posts = fromSummaryPage();
+        Map<String, Object> response = new HashMap<>();
+        response.put("posts", posts);
+        response.put("currentPage", 0);
+        response.put("totalPages", totalPages);
+        response.put("totalElements", TOTAL_COUNT);
+        response.put("hasNext", totalPages > 1);
+        response.put("hasPrevious", false);
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    // GET /posts/{id} 응답 본문 구성 + JSON 직렬화
+    @Benchmark
+    public byte[] detailEnvelopeJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new PostDetailResponse(PostResponse.from(post)));
+    }
+
+    // 스프링 없이 목록 저장소를 만들고 게시글을 적재 (DB 대신 최신순으로 돌려주는 PostMapper)
+    @SuppressWarnings("unchecked")
+    private static PostSummaryStore createStore(List<Post> posts) {
+        PostMapper postMapper = (PostMapper) Proxy.newProxyInstance(PostMapper.class.getClassLoader(),
+                new Class<?>[]{PostMapper.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("toString")) {
+                        return "PostMapper (benchmark)";
+                    }
+                    if (method.getName().equals("findCurrentTime")) {
+                        return LocalDateTime.now();
+                    }
+                    if (!method.getName().equals("scanSummariesNewestFirst")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    ResultHandler<Post> handler = (ResultHandler<Post>) args[1];
+                    DefaultResultContext<Post> context = new DefaultResultContext<>();
+                    for (int i = posts.size() - 1; i >= 0 && !context.isStopped(); i--) {
+                        context.nextResultObject(posts.get(i));
+                        handler.handleResult(context);
+                    }
+                    return null;
+                });
+
+        PostSummaryStore store = new PostSummaryStore();
+        ReflectionTestUtils.setField(store, "postMapper", postMapper);
+        ReflectionTestUtils.setField(store, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "maxEntries", posts.size());
+        store.init();
+        store.load();
+        return store;
+    }
+
+    private static Post createPost(long id) {
+        String content = "게시판 본문 내용입니다. 벤치마크용으로 적당한 길이의 문장을 반복합니다. ".repeat(20);
+        Post post = new Post();
+        post.setId(id);
+        post.setTitle("벤치마크 게시글 제목 " + id);
+        post.setContent(content);
+        post.setExcerpt(Post.createExcerpt(content));
+        post.setAuthorId(1L);
+        post.setAuthorName("벤치마크");
+        post.setAuthorEmail("bench@example.com");
+        post.setViewCount((int) (id * 7));
+        post.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(id));
+        post.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(id));
+        return post;
+    }
+}
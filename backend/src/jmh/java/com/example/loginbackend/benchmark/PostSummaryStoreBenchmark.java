@@ -0,0 +1,138 @@
+package com.example.loginbackend.benchmark;
+
+import com.example.loginbackend.entity.Post;
+import com.example.loginbackend.mapper.PostMapper;
+import com.example.loginbackend.service.PostSummaryStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 저장소 일괄 반영 벤치마크
+ * 게시글 가져오기(PostImportService)가 chunk마다 호출하는 PostSummaryStore.addAll을 측정합니다.
+ * 작성 시각이 기존 게시글 사이에 흩어진 과거 게시글을 chunk 단위로 넣으므로 정렬 배열 중간 삽입 비용이 드러납니다.
+ * 한 번 실행(SingleShotTime)에 chunkCount x chunkSize건을 반영하며, 실행마다 저장소를 새로 적재합니다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx3g"})
+@State(Scope.Benchmark)
+public class PostSummaryStoreBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int RANGE_SECONDS = 365 * 24 * 60 * 60;
+
+    @Param({"100000", "1000000"})
+    private int storeSize;
+
+    @Param({"1000"})
+    private int chunkSize;
+
+    @Param({"100"})
+    private int chunkCount;
+
+    private List<Post> existing;
+    private List<List<Post>> chunks;
+    private PostSummaryStore store;
+
+    @Setup(Level.Trial)
+    public void createPosts() {
+        Random random = new Random(42);
+        existing = new ArrayList<>(storeSize);
+        for (long id = 1; id <= storeSize; id++) {
+            existing.add(createPost(id, START.plusSeconds((long) RANGE_SECONDS * id / storeSize)));
+        }
+        chunks = new ArrayList<>(chunkCount);
+        long id = storeSize;
+        for (int c = 0; c < chunkCount; c++) {
+            List<Post> chunk = new ArrayList<>(chunkSize);
+            for (int i = 0; i < chunkSize; i++) {
+                chunk.add(createPost(++id, START.plusSeconds(random.nextInt(RANGE_SECONDS))));
+            }
+            chunks.add(chunk);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void loadStore() {
+        store = createStore(existing, storeSize + chunkSize * chunkCount);
+    }
+
+    // 과거 게시글 chunkCount x chunkSize건을 chunk 단위로 반영
+    @Benchmark
+    public int addHistoricalChunks() {
+        for (List<Post> chunk : chunks) {
+            store.addAll(chunk);
+        }
+        return store.size();
+    }
+
+    // 스프링 없이 목록 저장소를 만들고 게시글을 적재 (DB 대신 최신순으로 돌려주는 PostMapper)
+    @SuppressWarnings("unchecked")
+    private static PostSummaryStore createStore(List<Post> posts, int maxEntries) {
+        PostMapper postMapper = (PostMapper) Proxy.newProxyInstance(PostMapper.class.getClassLoader(),
+                new Class<?>[]{PostMapper.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("toString")) {
+                        return "PostMapper (benchmark)";
+                    }
+                    if (method.getName().equals("findCurrentTime")) {
+                        return LocalDateTime.now();
+                    }
+                    if (!method.getName().equals("scanSummariesNewestFirst")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    ResultHandler<Post> handler = (ResultHandler<Post>) args[1];
+                    DefaultResultContext<Post> context = new DefaultResultContext<>();
+                    for (int i = posts.size() - 1; i >= 0 && !context.isStopped(); i--) {
+                        context.nextResultObject(posts.get(i));
+                        handler.handleResult(context);
+                    }
+                    return null;
+                });
+
+        PostSummaryStore store = new PostSummaryStore();
+        ReflectionTestUtils.setField(store, "postMapper", postMapper);
+        ReflectionTestUtils.setField(store, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "maxEntries", maxEntries);
+        store.init();
+        store.load();
+        return store;
+    }
+
+    private static Post createPost(long id, LocalDateTime createdAt) {
+        Post post = new Post();
+        post.setId(id);
+        post.setTitle("가져온 게시글 " + id);
+        post.setExcerpt("예전 게시판에서 옮겨 온 게시글 요약");
+        post.setAuthorId(id % 100 + 1);
+        post.setAuthorName("작성자" + (id % 100 + 1));
+        post.setAuthorEmail("user" + (id % 100 + 1) + "@example.com");
+        post.setViewCount((int) (id % 50));
+        post.setCreatedAt(createdAt);
+        post.setUpdatedAt(createdAt);
+        return post;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.loginbackend.loadtest;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 부하 테스트용 DB 왕복 지연 (loadtest.db-latency-ms, 0이면 사용하지 않음)
+ * 인메모리 H2는 네트워크 왕복이 없어 요청 스레드가 DB를 기다리는 시간이 거의 0이므로,
+ * 문장을 준비할 때마다 지정한 시간만큼 잠들어 원격 DB(MariaDB 등)를 기다리는 상황을 흉내 냅니다.
+ * 지연은 커넥션을 잡은 채로 발생하므로 커넥션 풀과 JDBC 동시 실행 상한이 실제처럼 포화됩니다.
+ */
+public class LoadTestDbLatency implements BeanPostProcessor {
+
+    private final long latencyMillis;
+
+    public LoadTestDbLatency(Environment environment) {
+        this.latencyMillis = environment.getProperty("loadtest.db-latency-ms", Long.class, 0L);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (latencyMillis <= 0 || !(bean instanceof DataSource)) {
+            return bean;
+        }
+        return new DelegatingDataSource((DataSource) bean) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return delayed(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return delayed(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private Connection delayed(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if (method.getName().startsWith("prepare") || method.getName().equals("createStatement")) {
+                        Thread.sleep(latencyMillis);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
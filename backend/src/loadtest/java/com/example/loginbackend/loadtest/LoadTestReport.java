@@ -0,0 +1,100 @@
+package com.example.loginbackend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 출력
+ * 엔드포인트별 HdrHistogram 백분위 분포(.hgrm)와 실행 간 비교용 JSON 요약을 남깁니다.
+ * 지연 시간은 마이크로초로 기록하고 밀리초로 출력합니다.
+ */
+class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final File outputDir;
+
+    LoadTestReport(File outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    void write(Map<String, Object> config, double durationSeconds,
+               Map<String, Histogram> histograms, Map<String, Long> errors) throws IOException {
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("결과 디렉터리를 만들 수 없습니다: " + outputDir);
+        }
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            String endpoint = entry.getKey();
+            Histogram histogram = entry.getValue();
+            try (PrintStream out = new PrintStream(new File(outputDir, endpoint + ".hgrm"), "UTF-8")) {
+                histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+            endpoints.put(endpoint, summarize(histogram, errors.getOrDefault(endpoint, 0L), durationSeconds));
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("timestamp", OffsetDateTime.now().toString());
+        summary.put("javaVersion", System.getProperty("java.version"));
+        summary.put("config", config);
+        summary.put("durationSeconds", durationSeconds);
+        summary.put("endpoints", endpoints);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(outputDir, "summary.json"), summary);
+
+        print(endpoints);
+    }
+
+    // 이전 실행의 summary.json과 엔드포인트별 처리량/p99 비교
+    void compare(File baselineFile) throws IOException {
+        JsonNode baseline = objectMapper.readTree(baselineFile).path("endpoints");
+        JsonNode current = objectMapper.readTree(new File(outputDir, "summary.json")).path("endpoints");
+
+        System.out.println();
+        System.out.println("기준 실행 대비 (" + baselineFile + ")");
+        System.out.printf("%-8s %14s %14s %14s %14s%n", "endpoint", "rps(기준)", "rps(현재)", "p99ms(기준)", "p99ms(현재)");
+        current.fieldNames().forEachRemaining(endpoint -> {
+            JsonNode before = baseline.path(endpoint);
+            JsonNode after = current.path(endpoint);
+            System.out.printf("%-8s %14.1f %14.1f %14.2f %14.2f%n", endpoint,
+                    before.path("throughput").asDouble(), after.path("throughput").asDouble(),
+                    before.path("p99").asDouble(), after.path("p99").asDouble());
+        });
+    }
+
+    private static Map<String, Object> summarize(Histogram histogram, long errorCount, double durationSeconds) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", histogram.getTotalCount());
+        result.put("errors", errorCount);
+        result.put("throughput", histogram.getTotalCount() / durationSeconds);
+        result.put("mean", histogram.getMean() / MICROS_PER_MILLI);
+        result.put("p50", histogram.getValueAtPercentile(50.0) / MICROS_PER_MILLI);
+        result.put("p95", histogram.getValueAtPercentile(95.0) / MICROS_PER_MILLI);
+        result.put("p99", histogram.getValueAtPercentile(99.0) / MICROS_PER_MILLI);
+        result.put("p999", histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI);
+        result.put("max", histogram.getMaxValue() / MICROS_PER_MILLI);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> endpoints) {
+        System.out.println();
+        System.out.printf("%-8s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "count", "errors", "rps", "p50ms", "p95ms", "p99ms", "p99.9ms");
+        endpoints.forEach((endpoint, value) -> {
+            Map<String, Object> stats = (Map<String, Object>) value;
+            System.out.printf("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n", endpoint,
+                    stats.get("count"), stats.get("errors"), stats.get("throughput"),
+                    stats.get("p50"), stats.get("p95"), stats.get("p99"), stats.get("p999"));
+        });
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.loginbackend.loadtest;
+
+import com.example.loginbackend.LoginBackendApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP 부하 테스트 실행기
+ * H2 인메모리 설정으로 애플리케이션을 임의 포트에 띄우고 데이터를 적재한 뒤,
+ * 목표 요청률(open-loop)로 로그인/목록/상세/검색/작성 요청을 섞어 보냅니다.
+ * 지연 시간은 요청을 보냈어야 할 시각부터 측정하므로 서버가 밀려도 대기 시간이 결과에 포함됩니다.
+ *
+ * 실행: mvn -Ploadtest test-compile exec:exec -Dloadtest.rate=200 -Dloadtest.duration=60
+ */
+public class LoadTestRunner {
+
+    private static final String[] ENDPOINTS = {"login", "list", "detail", "search", "create"};
+
+    private static final int TOKEN_USERS = 20;
+
+    private static final String COMMON_POOL_PARALLELISM = "java.util.concurrent.ForkJoinPool.common.parallelism";
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Random random;
+    private final int userCount;
+    private final int postCount;
+    private final List<String> tokens = new ArrayList<>();
+
+    private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> errors = new LinkedHashMap<>();
+
+    private LoadTestRunner(String baseUrl, HttpClient httpClient, long seed, int userCount, int postCount) {
+        this.baseUrl = baseUrl;
+        this.httpClient = httpClient;
+        this.random = new Random(seed);
+        this.userCount = userCount;
+        this.postCount = postCount;
+        for (String endpoint : ENDPOINTS) {
+            histograms.put(endpoint, new ConcurrentHistogram(3));
+            errors.put(endpoint, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        // HttpClient.sendAsync는 응답 완료 콜백을 CompletableFuture 기본 실행기로 넘기는데,
+        // 코어가 1개면 공용 ForkJoinPool을 쓰지 않고 작업마다 새 스레드를 만들어 부하 발생기가 서버와 CPU를 다툼
+        // (CompletableFuture가 처음 로드되기 전에 지정해야 적용됨)
+        if (System.getProperty(COMMON_POOL_PARALLELISM) == null) {
+            System.setProperty(COMMON_POOL_PARALLELISM, "2");
+        }
+        if (ForkJoinPool.getCommonPoolParallelism() < 2) {
+            System.err.println("공용 ForkJoinPool 병렬도가 " + ForkJoinPool.getCommonPoolParallelism()
+                    + "이라 응답마다 스레드가 만들어집니다. -D" + COMMON_POOL_PARALLELISM + "=2 로 실행하세요");
+        }
+        int rate = Integer.getInteger("loadtest.rate", 200);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+        int users = Integer.getInteger("loadtest.users", 100);
+        int posts = Integer.getInteger("loadtest.posts", 10000);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        int maxInFlight = Integer.getInteger("loadtest.max-in-flight", 2000);
+        String mix = System.getProperty("loadtest.mix", "login:2,list:50,detail:30,search:13,create:5");
+        File outputDir = new File(System.getProperty("loadtest.out", "target/loadtest"));
+        String baseline = System.getProperty("loadtest.baseline", "");
+        boolean virtualThreads = Boolean.getBoolean("loadtest.virtual-threads");
+        long dbLatencyMillis = Long.getLong("loadtest.db-latency-ms", 0L);
+
+        // 명령행 인자로 넘겨야 application.yml의 server.port 등을 덮어씀
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                LoginBackendApplication.class, LoadTestSeeder.class, LoadTestDbLatency.class)
+                .run("--server.port=0",
+                     "--management.server.port=0",
+                     "--loadtest.users=" + users,
+                     "--loadtest.posts=" + posts,
+                     "--loadtest.seed=" + seed,
+                     // 모든 요청이 같은 IP에서 나가므로 인증 속도 제한은 끔
+                     "--auth.rate-limit.enabled=false",
+                     "--spring.threads.virtual.enabled=" + virtualThreads,
+                     "--loadtest.db-latency-ms=" + dbLatencyMillis,
+                     "--mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl");
+
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(httpExecutor)
+                    .build();
+
+            LoadTestRunner runner = new LoadTestRunner(
+                    "http://localhost:" + port + "/api", httpClient, seed, users, posts);
+            runner.loginUsers();
+            runner.run(parseMix(mix), rate, warmupSeconds, durationSeconds, maxInFlight);
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("rate", rate);
+            config.put("durationSeconds", durationSeconds);
+            config.put("warmupSeconds", warmupSeconds);
+            config.put("users", users);
+            config.put("posts", posts);
+            config.put("seed", seed);
+            config.put("mix", mix);
+            config.put("virtualThreads", virtualThreads);
+            config.put("carrierThreads", System.getProperty("jdk.virtualThreadScheduler.parallelism", "default"));
+            config.put("dbLatencyMillis", dbLatencyMillis);
+
+            LoadTestReport report = new LoadTestReport(outputDir);
+            report.write(config, durationSeconds, runner.histograms, runner.errorCounts());
+            if (!baseline.isEmpty()) {
+                report.compare(new File(baseline));
+            }
+            System.out.println();
+            System.out.println("결과: " + outputDir.getAbsolutePath());
+        } finally {
+            httpExecutor.shutdownNow();
+            context.close();
+        }
+    }
+
+    // 게시글 API 호출에 사용할 토큰 발급
+    private void loginUsers() throws Exception {
+        for (int i = 0; i < Math.min(TOKEN_USERS, userCount); i++) {
+            HttpResponse<String> response = httpClient.send(loginRequest(i), HttpResponse.BodyHandlers.ofString());
+            String token = objectMapper.readTree(response.body()).path("token").asText(null);
+            if (response.statusCode() != 200 || token == null) {
+                throw new IllegalStateException("부하 테스트 사용자 로그인 실패: " + response.body());
+            }
+            tokens.add(token);
+        }
+    }
+
+    private void run(int[] weights, int rate, int warmupSeconds, int durationSeconds, int maxInFlight)
+            throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureStart = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        int totalWeight = 0;
+        for (int weight : weights) {
+            totalWeight += weight;
+        }
+
+        System.out.println("부하 테스트 시작: " + rate + " req/s, 워밍업 " + warmupSeconds + "초, 측정 " + durationSeconds + "초");
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            int endpoint = pick(weights, totalWeight);
+            boolean measured = intended >= measureStart;
+            if (!inFlight.tryAcquire()) {
+                // 동시 요청 상한 초과: 보내지 못한 요청은 오류로 집계
+                if (measured) {
+                    errors.get(ENDPOINTS[endpoint]).incrementAndGet();
+                }
+                continue;
+            }
+
+            final long scheduledAt = intended;
+            String name = ENDPOINTS[endpoint];
+            httpClient.sendAsync(request(endpoint), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        if (!measured) {
+                            return;
+                        }
+                        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt);
+                        histograms.get(name).recordValue(Math.max(1, latencyMicros));
+                        if (error != null || response.statusCode() >= 400) {
+                            errors.get(name).incrementAndGet();
+                        }
+                    });
+        }
+
+        // 남은 요청이 끝날 때까지 대기
+        if (!inFlight.tryAcquire(maxInFlight, 30, TimeUnit.SECONDS)) {
+            System.err.println("30초 안에 끝나지 않은 요청이 있습니다");
+        }
+    }
+
+    private HttpRequest request(int endpoint) {
+        switch (ENDPOINTS[endpoint]) {
+            case "login":
+                return loginRequest(random.nextInt(userCount));
+            case "list":
+                // 대부분의 트래픽은 앞쪽 몇 페이지
+                int page = random.nextInt(10) < 8 ? random.nextInt(3) : random.nextInt(Math.max(1, postCount / 10));
+                return authorized("/posts?page=" + page + "&size=10").GET().build();
+            case "detail":
+                return authorized("/posts/" + (1 + random.nextInt(postCount))).GET().build();
+            case "search":
+                String keyword = LoadTestSeeder.KEYWORDS[random.nextInt(LoadTestSeeder.KEYWORDS.length)];
+                return authorized("/posts/search?keyword=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8))
+                        .GET().build();
+            default:
+                String body = "{\"title\":\"부하 테스트 작성 " + random.nextInt(1_000_000) + "\","
+                        + "\"content\":\"부하 테스트로 작성된 게시글 본문입니다.\"}";
+                return authorized("/posts")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+        }
+    }
+
+    private HttpRequest loginRequest(int userIndex) {
+        String body = "{\"email\":\"" + LoadTestSeeder.email(userIndex) + "\","
+                + "\"password\":\"" + LoadTestSeeder.PASSWORD + "\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + tokens.get(random.nextInt(tokens.size())));
+    }
+
+    private int pick(int[] weights, int totalWeight) {
+        int value = random.nextInt(totalWeight);
+        for (int i = 0; i < weights.length; i++) {
+            value -= weights[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private Map<String, Long> errorCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        errors.forEach((endpoint, count) -> counts.put(endpoint, count.get()));
+        return counts;
+    }
+
+    // "login:2,list:50,..." 형식의 요청 비율
+    private static int[] parseMix(String mix) {
+        int[] weights = new int[ENDPOINTS.length];
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            int index = List.of(ENDPOINTS).indexOf(pair[0].trim());
+            if (pair.length != 2 || index < 0) {
+                throw new IllegalArgumentException("잘못된 요청 비율입니다: " + part);
+            }
+            weights[index] = Integer.parseInt(pair[1].trim());
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.loginbackend.loadtest;
+
+import com.example.loginbackend.entity.Post;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 데이터 적재
+ * DatabaseInitializer(@Order(1)) 다음에 실행되어 검색 색인/목록 저장소가 적재되기 전에 데이터를 넣습니다.
+ */
+@Order(10)
+public class LoadTestSeeder implements CommandLineRunner {
+
+    static final String PASSWORD = "loadtest123";
+    static final String[] KEYWORDS = {"스프링", "자바", "리액트", "데이터베이스", "성능", "캐시", "인덱스", "배포"};
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${loadtest.users:100}")
+    private int userCount;
+
+    @Value("${loadtest.posts:10000}")
+    private int postCount;
+
+    @Value("${loadtest.seed:42}")
+    private long seed;
+
+    static String email(int index) {
+        return "loadtest" + index + "@example.com";
+    }
+
+    @Override
+    public void run(String... args) {
+        long started = System.currentTimeMillis();
+
+        // 모든 사용자가 같은 비밀번호를 쓰므로 해시는 한 번만 계산
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        List<Object[]> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            users.add(new Object[]{email(i), encodedPassword, "부하테스트" + i, "USER"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, password, name, role) VALUES (?, ?, ?, ?)", users);
+
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE 'loadtest%' ORDER BY id", Long.class);
+
+        Random random = new Random(seed);
+        LocalDateTime base = LocalDateTime.now().minusDays(365);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < postCount; i++) {
+            int author = random.nextInt(userIds.size());
+            String content = content(random);
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds((long) i * 365 * 24 * 3600 / Math.max(1, postCount)));
+            batch.add(new Object[]{
+                "부하 테스트 게시글 " + i + " " + KEYWORDS[random.nextInt(KEYWORDS.length)],
+                content,
+                Post.createExcerpt(content),
+                userIds.get(author),
+                "부하테스트" + author,
+                email(author),
+                random.nextInt(1000),
+                createdAt,
+                createdAt
+            });
+            if (batch.size() == BATCH_SIZE) {
+                insertPosts(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertPosts(batch);
+        }
+
+        System.out.println("부하 테스트 데이터 적재 완료: 사용자 " + userCount + "명, 게시글 " + postCount
+                + "건 (" + (System.currentTimeMillis() - started) + "ms)");
+    }
+
+    private void insertPosts(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO posts (title, content, excerpt, author_id, author_name, author_email, "
+                + "view_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+    }
+
+    private static String content(Random random) {
+        StringBuilder content = new StringBuilder();
+        int sentences = 3 + random.nextInt(20);
+        for (int i = 0; i < sentences; i++) {
+            content.append(KEYWORDS[random.nextInt(KEYWORDS.length)])
+                    .append("에 대한 부하 테스트용 문장입니다. ");
+        }
+        return content.toString();
+    }
+}
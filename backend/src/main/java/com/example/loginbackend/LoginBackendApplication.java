@@ -3,9 +3,11 @@ package com.example.loginbackend;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @MapperScan("com.example.loginbackend.mapper")
+@EnableScheduling
 public class LoginBackendApplication {
     public static void main(String[] args) {
         SpringApplication.run(LoginBackendApplication.class, args);
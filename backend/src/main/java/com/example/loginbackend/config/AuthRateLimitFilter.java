@@ -0,0 +1,266 @@
+package com.example.loginbackend.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/회원가입 요청 속도 제한
+ * 클라이언트 IP와 요청 본문의 이메일 각각에 토큰 버킷을 적용해 초과 요청은 AuthController(BCrypt)에
+ * 닿기 전에 429 + Retry-After로 거부합니다. 거부 판단은 메모리에서만 이루어지고 DB는 조회하지 않습니다.
+ */
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private static final byte[] REJECTED_BODY =
+            "{\"success\":false,\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] TOO_LARGE_BODY =
+            "{\"success\":false,\"message\":\"요청 본문이 너무 큽니다\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${auth.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.rate-limit.ip.per-minute:60}")
+    private int ipPerMinute;
+
+    @Value("${auth.rate-limit.ip.burst:20}")
+    private int ipBurst;
+
+    @Value("${auth.rate-limit.email.per-minute:10}")
+    private int emailPerMinute;
+
+    @Value("${auth.rate-limit.email.burst:5}")
+    private int emailBurst;
+
+    @Value("${auth.rate-limit.max-keys:100000}")
+    private long maxKeys;
+
+    @Value("${auth.rate-limit.idle-expire-seconds:600}")
+    private long idleExpireSeconds;
+
+    @Value("${auth.rate-limit.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    private TokenBucketRateLimiter ipLimiter;
+    private TokenBucketRateLimiter emailLimiter;
+    private Counter ipRejected;
+    private Counter emailRejected;
+
+    @PostConstruct
+    public void init() {
+        ipLimiter = new TokenBucketRateLimiter(ipPerMinute, ipBurst, maxKeys, idleExpireSeconds);
+        emailLimiter = new TokenBucketRateLimiter(emailPerMinute, emailBurst, maxKeys, idleExpireSeconds);
+        ipRejected = rejectedCounter("ip");
+        emailRejected = rejectedCounter("email");
+        Gauge.builder("auth.rate_limit.keys", ipLimiter, TokenBucketRateLimiter::size)
+                .tag("key", "ip").register(meterRegistry);
+        Gauge.builder("auth.rate_limit.keys", emailLimiter, TokenBucketRateLimiter::size)
+                .tag("key", "email").register(meterRegistry);
+    }
+
+    private Counter rejectedCounter(String key) {
+        return Counter.builder("auth.rate_limit.rejected")
+                .description("속도 제한으로 거부된 인증 요청 수")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    // POST /auth/login, /auth/register만 제한
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getServletPath();
+        return !"/auth/login".equals(path) && !"/auth/register".equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        // IP 제한 먼저 (본문을 읽지 않으므로 가장 저렴)
+        long waitNanos = ipLimiter.tryAcquire(clientIp(request));
+        if (waitNanos != TokenBucketRateLimiter.ALLOWED) {
+            ipRejected.increment();
+            reject(response, waitNanos);
+            return;
+        }
+
+        if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+            write(response, HttpStatus.PAYLOAD_TOO_LARGE, TOO_LARGE_BODY);
+            return;
+        }
+        byte[] body = readBody(request.getInputStream());
+        if (body == null) {
+            write(response, HttpStatus.PAYLOAD_TOO_LARGE, TOO_LARGE_BODY);
+            return;
+        }
+
+        String email = extractEmail(body);
+        if (email != null) {
+            waitNanos = emailLimiter.tryAcquire(email);
+            if (waitNanos != TokenBucketRateLimiter.ALLOWED) {
+                emailRejected.increment();
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        // 이미 읽은 본문을 컨트롤러가 다시 읽을 수 있도록 감싸서 전달
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma >= 0 ? forwardedFor.substring(0, comma) : forwardedFor).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    // 최대 크기를 넘으면 null
+    private static byte[] readBody(InputStream in) throws IOException {
+        byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+        return body.length > MAX_BODY_BYTES ? null : body;
+    }
+
+    // 본문이 JSON이 아니거나 이메일이 없으면 null (형식 오류는 컨트롤러 검증에 맡김)
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            if (email == null || !email.isTextual() || email.asText().isBlank()) {
+                return null;
+            }
+            return email.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        write(response, HttpStatus.TOO_MANY_REQUESTS, REJECTED_BODY);
+    }
+
+    private static void write(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * 미리 읽어 둔 본문을 다시 제공하는 요청 래퍼
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 등록 즉시 남은 데이터와 읽기 완료를 알림 (서블릿 규약대로 비동기 모드에서만 허용)
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    if (listener == null) {
+                        throw new NullPointerException("ReadListener가 null입니다");
+                    }
+                    if (!isAsyncStarted()) {
+                        throw new IllegalStateException("ReadListener는 비동기 모드에서만 등록할 수 있습니다");
+                    }
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
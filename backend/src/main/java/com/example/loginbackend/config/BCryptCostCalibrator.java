@@ -0,0 +1,46 @@
+package com.example.loginbackend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * BCrypt cost 보정
+ * 최소 cost로 해시 시간을 측정하고, cost가 1 오를 때마다 시간이 두 배가 되는 것을 이용해
+ * 목표 시간 안에 들어오는 가장 큰 cost를 고릅니다. 저장된 해시에는 cost가 포함되어 있으므로
+ * cost가 바뀌어도 기존 비밀번호 검증에는 영향이 없고 새로 저장하는 해시에만 적용됩니다.
+ */
+public final class BCryptCostCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(long targetMillis, int minCost, int maxCost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minCost);
+        encoder.encode("calibration-warmup");
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long started = System.nanoTime();
+            encoder.encode("calibration-" + i);
+            samples[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(samples);
+        double minCostMillis = samples[SAMPLES / 2] / 1_000_000.0;
+
+        int cost = minCost;
+        while (cost < maxCost && minCostMillis * (1L << (cost + 1 - minCost)) <= targetMillis) {
+            cost++;
+        }
+        log.info("BCrypt cost 보정: cost={}, 예상 해시 시간={}ms (cost {} 측정값 {}ms, 목표 {}ms)",
+                cost, Math.round(minCostMillis * (1L << (cost - minCost))), minCost,
+                Math.round(minCostMillis), targetMillis);
+        return cost;
+    }
+}
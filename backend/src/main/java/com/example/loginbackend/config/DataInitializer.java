@@ -147,6 +147,7 @@ public class DataInitializer implements CommandLineRunner {
             Post post = new Post();
             post.setTitle(title);
             post.setContent(content);
+            post.setExcerpt(Post.createExcerpt(content));
             post.setAuthorId(author.getId());
             post.setAuthorName(author.getName());
             post.setAuthorEmail(author.getEmail());
@@ -0,0 +1,94 @@
+package com.example.loginbackend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 초기 데이터가 들어간 H2 데이터베이스 스냅샷
+ * 빈 데이터베이스를 만들 때 마이그레이션 + 초기 데이터(bcrypt 해시 포함)를 다시 실행하는 대신
+ * H2 SCRIPT로 떠 둔 파일을 RUNSCRIPT로 한 번에 복원합니다. (개발/CI/통합 테스트용, H2에서만 동작)
+ * 스냅샷 이후 추가된 마이그레이션은 복원 뒤 SchemaMigrator가 이어서 적용합니다.
+ */
+@Component
+public class DatabaseSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseSnapshot.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${db.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${db.snapshot.path:./target/db-snapshot/seed.sql.gz}")
+    private String path;
+
+    private Boolean h2;
+
+    // 스냅샷을 쓰거나 복원할 수 있는지 (설정이 켜져 있고 H2인 경우)
+    public boolean isEnabled() {
+        return enabled && isH2();
+    }
+
+    // 테이블이 하나도 없는 데이터베이스에 스냅샷 파일을 복원, 복원했으면 true
+    public boolean restoreIfEmpty() {
+        if (!isEnabled()) {
+            return false;
+        }
+        Path file = Paths.get(path);
+        if (!Files.isRegularFile(file)) {
+            log.info("DB 스냅샷 파일이 없어 일반 초기화를 진행합니다: {}", file.toAbsolutePath());
+            return false;
+        }
+        Integer tables = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE UPPER(TABLE_NAME) IN ('USERS', 'POSTS', 'SCHEMA_VERSION')",
+            Integer.class);
+        if (tables != null && tables > 0) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        jdbcTemplate.execute("RUNSCRIPT FROM " + quote(file.toAbsolutePath()) + " COMPRESSION GZIP");
+        log.info("DB 스냅샷 복원 완료 ({}ms): {}", (System.nanoTime() - start) / 1_000_000, file.toAbsolutePath());
+        return true;
+    }
+
+    // 현재 데이터베이스 전체(스키마 + 데이터)를 스냅샷 파일로 저장
+    public void write() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        Path file = Paths.get(path).toAbsolutePath();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        // 다른 JVM이 쓰는 중인 파일을 읽지 않도록 임시 파일에 쓴 뒤 교체
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        jdbcTemplate.execute("SCRIPT TO " + quote(temp) + " COMPRESSION GZIP");
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("DB 스냅샷 저장 완료: {}", file);
+    }
+
+    private boolean isH2() {
+        if (h2 == null) {
+            h2 = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "H2".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return Boolean.TRUE.equals(h2);
+    }
+
+    private static String quote(Path file) {
+        return "'" + file.toString().replace("'", "''") + "'";
+    }
+}
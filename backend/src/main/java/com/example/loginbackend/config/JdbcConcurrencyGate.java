@@ -0,0 +1,106 @@
+package com.example.loginbackend.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 가상 스레드 모드의 JDBC 동시 실행 상한
+ * 가상 스레드 모드에서는 Tomcat 스레드 수(server.tomcat.threads.max)가 요청 동시성을 막아 주지 않으므로,
+ * 몰려든 요청이 모두 커넥션 풀 앞에서 경쟁하고 JDBC 드라이버의 synchronized 구간까지 들어가 캐리어를 붙잡을 수 있습니다.
+ * 커넥션을 얻기 전에 공정(FIFO) 세마포어를 거치게 해 JDBC 안에 있는 가상 스레드를 풀 크기 이하로 묶고,
+ * 나머지는 캐리어를 내려놓은 채 세마포어에서 순서대로 기다리게 합니다.
+ * 허가는 커넥션을 닫을 때 한 번만 돌려주며, 기다리는 시간이 timeoutMillis를 넘으면 풀과 같은 방식으로 실패합니다.
+ */
+public class JdbcConcurrencyGate extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long timeoutMillis;
+
+    public JdbcConcurrencyGate(DataSource target, int maxConcurrent, long timeoutMillis) {
+        super(target);
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("JDBC 동시 실행 상한은 1 이상이어야 합니다: " + maxConcurrent);
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return guard(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return guard(() -> super.getConnection(username, password));
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    // 허가를 기다리는 스레드 수 (추정치)
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("JDBC 동시 실행 상한(" + maxConcurrent + ")에서 "
+                        + timeoutMillis + "ms 동안 커넥션을 얻지 못했습니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("커넥션 대기 중 인터럽트되었습니다", e);
+        }
+    }
+
+    // 커넥션을 얻지 못하면 바로 허가를 돌려주고, 얻었으면 close 시 돌려주도록 감쌈
+    private Connection guard(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
@@ -1,7 +1,12 @@
 package com.example.loginbackend.config;
 
 import com.example.loginbackend.service.JwtService;
+import com.example.loginbackend.service.TokenVersionRegistry;
 import com.example.loginbackend.service.UserService;
+import com.example.loginbackend.service.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -10,41 +15,97 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import javax.annotation.PostConstruct;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
+    private static final String OUTCOME_ANONYMOUS = "anonymous";
+    private static final String OUTCOME_INVALID = "invalid";
+    private static final String OUTCOME_REVOKED = "revoked";
+    private static final String OUTCOME_AUTHENTICATED = "authenticated";
+    private static final String OUTCOME_REJECTED = "rejected";
+    
     @Autowired
     private JwtService jwtService;
     
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    // 결과별 인증 처리 시간 (뒤따르는 필터/핸들러 시간은 제외)
+    private final Map<String, Timer> timers = new HashMap<>();
+    
+    @PostConstruct
+    public void initMetrics() {
+        for (String outcome : new String[]{OUTCOME_ANONYMOUS, OUTCOME_INVALID, OUTCOME_REVOKED,
+                OUTCOME_AUTHENTICATED, OUTCOME_REJECTED}) {
+            timers.put(outcome, Timer.builder("auth.jwt.filter")
+                    .description("JWT 인증 필터 처리 시간")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+    
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
+        long started = System.nanoTime();
+        String outcome = authenticate(request);
+        timers.get(outcome).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
         
+        filterChain.doFilter(request, response);
+    }
+    
+    // 토큰을 확인해 보안 컨텍스트에 인증 정보를 설정하고 처리 결과를 반환
+    private String authenticate(HttpServletRequest request) {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
         final String userEmail;
         
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            filterChain.doFilter(request, response);
-            return;
+            return OUTCOME_ANONYMOUS;
         }
         
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        
+        // 토큰은 요청당 한 번만 파싱/검증 (잘못된 토큰은 인증 없이 통과시켜 보안 설정에서 거부)
+        final VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtService.verify(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            return OUTCOME_INVALID;
+        }
+        userEmail = verifiedToken.getSubject();
         
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userService.loadUserByUsername(userEmail);
+            UserDetails userDetails;
+            if (jwtService.isStatelessAuthEnabled() && verifiedToken.hasIdentityClaims()
+                    && tokenVersionRegistry.isLoaded()) {
+                // 토큰 클레임 인증: 폐기 여부만 메모리 버전 테이블로 확인하고 DB는 조회하지 않음
+                if (!tokenVersionRegistry.isCurrent(verifiedToken.getUserId(), verifiedToken.getTokenVersion())) {
+                    return OUTCOME_REVOKED;
+                }
+                userDetails = verifiedToken.toPrincipal();
+            } else {
+                userDetails = userService.loadUserByUsername(userEmail);
+            }
             
-            if (jwtService.validateToken(jwt, userDetails)) {
+            if (jwtService.validateToken(verifiedToken, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
@@ -52,9 +113,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 );
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                return OUTCOME_AUTHENTICATED;
             }
+            return OUTCOME_REJECTED;
         }
         
-        filterChain.doFilter(request, response);
+        // 이미 인증된 요청이거나 subject가 없는 토큰
+        return userEmail != null ? OUTCOME_AUTHENTICATED : OUTCOME_REJECTED;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,213 @@
+package com.example.loginbackend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis 문장별 지표 수집
+ * 매핑된 문장(PostMapper.findAll 등)마다 실행 시간 히스토그램, 처리 행 수, 오류 수를 기록합니다.
+ * 미터는 문장별로 한 번만 만들어 두고 재사용하므로 실행마다 드는 비용은 시간 측정과 기록뿐입니다.
+ * 커서 조회(queryCursor)는 커서를 닫을 때까지를 한 번의 실행으로 기록합니다.
+ */
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+               args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+               args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "queryCursor",
+               args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(type = Executor.class, method = "update",
+               args = {MappedStatement.class, Object.class})
+})
+public class MyBatisMetricsInterceptor implements Interceptor {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        StatementMeters statementMeters = meters.computeIfAbsent(statement.getId(), this::createMeters);
+
+        long started = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            if (result instanceof Cursor) {
+                // 커서는 행을 읽는 동안 실행 중이므로 닫힐 때 기록
+                return new MeasuredCursor<>((Cursor<?>) result, statementMeters, started);
+            }
+            statementMeters.success.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            long rows = rowCount(result);
+            if (rows >= 0) {
+                statementMeters.rows.record(rows);
+            }
+            return result;
+        } catch (Throwable e) {
+            statementMeters.failure.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            statementMeters.errors.increment();
+            throw e;
+        }
+    }
+
+    // 조회는 결과 건수, 변경은 영향받은 행 수 (배치 실행 중이거나 알 수 없으면 -1)
+    private static long rowCount(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Integer) {
+            int count = (Integer) result;
+            return count == BatchExecutor.BATCH_UPDATE_RETURN_VALUE ? -1 : count;
+        }
+        return -1;
+    }
+
+    // "com.example.loginbackend.mapper.PostMapper.findAll" -> "PostMapper.findAll"
+    private static String shortName(String statementId) {
+        int methodDot = statementId.lastIndexOf('.');
+        int classDot = methodDot > 0 ? statementId.lastIndexOf('.', methodDot - 1) : -1;
+        return statementId.substring(classDot + 1);
+    }
+
+    private StatementMeters createMeters(String statementId) {
+        String statement = shortName(statementId);
+        return new StatementMeters(
+            timer(statement, "success"),
+            timer(statement, "error"),
+            DistributionSummary.builder("mybatis.statement.rows")
+                    .description("MyBatis 문장별 처리 행 수")
+                    .tag("statement", statement)
+                    .register(meterRegistry),
+            Counter.builder("mybatis.statement.errors")
+                    .description("MyBatis 문장별 오류 수")
+                    .tag("statement", statement)
+                    .register(meterRegistry)
+        );
+    }
+
+    private Timer timer(String statement, String outcome) {
+        return Timer.builder("mybatis.statement")
+                .description("MyBatis 문장별 실행 시간")
+                .tag("statement", statement)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커서 결과 측정 (열린 시점부터 닫힐 때까지의 시간과 읽은 행 수)
+     * 행을 읽다가 실패하면 오류로 기록합니다.
+     */
+    private static final class MeasuredCursor<T> implements Cursor<T> {
+        private final Cursor<T> delegate;
+        private final StatementMeters meters;
+        private final long started;
+        private boolean failed;
+        private boolean recorded;
+
+        MeasuredCursor(Cursor<T> delegate, StatementMeters meters, long started) {
+            this.delegate = delegate;
+            this.meters = meters;
+            this.started = started;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return delegate.isConsumed();
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return delegate.getCurrentIndex();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> iterator = delegate.iterator();
+            return new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    try {
+                        return iterator.hasNext();
+                    } catch (RuntimeException e) {
+                        failed = true;
+                        throw e;
+                    }
+                }
+
+                @Override
+                public T next() {
+                    try {
+                        return iterator.next();
+                    } catch (RuntimeException e) {
+                        failed = true;
+                        throw e;
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                delegate.close();
+            } finally {
+                if (!recorded) {
+                    recorded = true;
+                    long elapsed = System.nanoTime() - started;
+                    if (failed) {
+                        meters.failure.record(elapsed, TimeUnit.NANOSECONDS);
+                        meters.errors.increment();
+                    } else {
+                        meters.success.record(elapsed, TimeUnit.NANOSECONDS);
+                        meters.rows.record(Math.max(0, delegate.getCurrentIndex() + 1));
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class StatementMeters {
+        private final Timer success;
+        private final Timer failure;
+        private final DistributionSummary rows;
+        private final Counter errors;
+
+        StatementMeters(Timer success, Timer failure, DistributionSummary rows, Counter errors) {
+            this.success = success;
+            this.failure = failure;
+            this.rows = rows;
+            this.errors = errors;
+        }
+    }
+}
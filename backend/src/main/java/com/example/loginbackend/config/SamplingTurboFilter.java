@@ -0,0 +1,68 @@
+package com.example.loginbackend.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로거 카테고리별 로그 표본 추출 (logback-spring.xml에서 카테고리마다 하나씩 선언)
+ * 카테고리(로거 이름 접두사)의 WARN 미만 로그를 초당 maxPerSecond 건까지만 통과시킵니다.
+ * 메시지 포맷팅과 이벤트 생성 전에 판단하므로 버려지는 로그는 비용이 거의 들지 않습니다.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private String category = "";
+    private int maxPerSecond = 100;
+
+    // 상위 비트는 현재 초, 하위 24비트는 그 초에 통과한 건수
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN) || !logger.getName().startsWith(category)) {
+            return FilterReply.NEUTRAL;
+        }
+        // 꺼진 레벨과 isXxxEnabled() 확인 호출은 세지 않음
+        if (format == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        long second = System.currentTimeMillis() / 1000;
+        while (true) {
+            long current = window.get();
+            long next;
+            if ((current >>> COUNT_BITS) != second) {
+                next = (second << COUNT_BITS) | 1;
+            } else if ((current & COUNT_MASK) < maxPerSecond) {
+                next = current + 1;
+            } else {
+                suppressed.incrementAndGet();
+                return FilterReply.DENY;
+            }
+            if (window.compareAndSet(current, next)) {
+                return FilterReply.NEUTRAL;
+            }
+        }
+    }
+
+    // 지금까지 버려진 로그 수
+    public long getSuppressedCount() {
+        return suppressed.get();
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = (int) Math.min(maxPerSecond, COUNT_MASK);
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.loginbackend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * 버전별 스키마 마이그레이션
+ * classpath:db/migration/V{버전}__{설명}.sql 파일을 버전 순서대로 한 번씩 실행하고
+ * schema_version 테이블에 적용 기록(체크섬 포함)을 남깁니다.
+ * 이미 적용된 파일의 내용이 바뀌면 기동을 중단합니다.
+ *
+ * 여러 인스턴스가 동시에 기동해도 한 곳에서만 적용하도록 schema_lock 행을 SELECT ... FOR UPDATE로 잠그고,
+ * 잠금을 얻은 뒤 적용 기록을 다시 읽어 그 사이 다른 인스턴스가 적용한 버전은 건너뜁니다.
+ * DDL은 DB(H2, MariaDB)에 따라 트랜잭션을 암묵적으로 커밋해 행 잠금을 풀어 버리므로,
+ * 잠금은 마이그레이션을 실행하는 커넥션과 별도의 커넥션에서 끝날 때까지 잡고 있습니다.
+ */
+@Component
+public class SchemaMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${db.migration.locations:classpath:db/migration/}")
+    private String locations;
+
+    @Value("${db.migration.validate-checksums:true}")
+    private boolean validateChecksums;
+
+    // 다른 인스턴스의 마이그레이션이 끝나기를 기다리는 최대 시간
+    @Value("${db.migration.lock-timeout-ms:300000}")
+    private long lockTimeoutMillis;
+
+    // 적용되지 않은 마이그레이션을 실행하고 실행한 개수를 반환
+    public int migrate() throws IOException, SQLException {
+        createVersionTable();
+        createLockTable();
+
+        List<Migration> migrations = findMigrations();
+        Map<Integer, Long> applied = findApplied();
+        if (pending(migrations, applied).isEmpty()) {
+            log.info("스키마 마이그레이션 완료 (적용 0건, 전체 {}건)", applied.size());
+            return 0;
+        }
+
+        Connection lockConnection = acquireLock();
+        try {
+            // 잠금을 기다리는 동안 다른 인스턴스가 적용했을 수 있으므로 다시 읽음
+            applied = findApplied();
+            List<Migration> pending = pending(migrations, applied);
+            for (Migration migration : pending) {
+                apply(migration);
+            }
+            log.info("스키마 마이그레이션 완료 (적용 {}건, 전체 {}건)", pending.size(), applied.size() + pending.size());
+            return pending.size();
+        } finally {
+            releaseLock(lockConnection);
+        }
+    }
+
+    // 마이그레이션과 같은 잠금을 잡고 작업 실행 (초기 데이터 삽입처럼 인스턴스 하나만 해야 하는 작업)
+    public void runLocked(Runnable work) throws SQLException {
+        Connection lockConnection = acquireLock();
+        try {
+            work.run();
+        } finally {
+            releaseLock(lockConnection);
+        }
+    }
+
+    private Map<Integer, Long> findApplied() {
+        Map<Integer, Long> applied = new HashMap<>();
+        jdbcTemplate.query("SELECT version, checksum FROM schema_version", (rs) -> {
+            applied.put(rs.getInt(1), rs.getLong(2));
+        });
+        return applied;
+    }
+
+    // 적용되지 않은 마이그레이션 (적용된 파일의 체크섬도 함께 확인)
+    private List<Migration> pending(List<Migration> migrations, Map<Integer, Long> applied) {
+        List<Migration> pending = new ArrayList<>();
+        for (Migration migration : migrations) {
+            Long checksum = applied.get(migration.version);
+            if (checksum == null) {
+                pending.add(migration);
+            } else if (validateChecksums && checksum != migration.checksum) {
+                throw new IllegalStateException("이미 적용된 마이그레이션이 변경되었습니다: " + migration.fileName);
+            }
+        }
+        return pending;
+    }
+
+    private void createLockTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_lock (id INT PRIMARY KEY)");
+        try {
+            jdbcTemplate.update("INSERT INTO schema_lock (id) SELECT 1 FROM DUAL "
+                + "WHERE NOT EXISTS (SELECT 1 FROM schema_lock WHERE id = 1)");
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 넣음
+        }
+    }
+
+    // 잠금 행을 별도 커넥션의 트랜잭션에서 잠그고 그 커넥션을 반환 (releaseLock으로 해제)
+    // 잠금 대기 시간 초과 시 커넥션 풀이 해당 커넥션을 폐기할 수 있으므로 매번 새 커넥션으로 다시 시도
+    private Connection acquireLock() throws SQLException {
+        long deadline = System.nanoTime() + lockTimeoutMillis * 1_000_000L;
+        while (true) {
+            Connection connection = dataSource.getConnection();
+            try {
+                connection.setAutoCommit(false);
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeQuery("SELECT id FROM schema_lock WHERE id = 1 FOR UPDATE").close();
+                }
+                return connection;
+            } catch (SQLException | RuntimeException e) {
+                releaseLock(connection);
+                if (!(e instanceof SQLException) || !isLockTimeout((SQLException) e) || System.nanoTime() > deadline) {
+                    throw e;
+                }
+                log.info("다른 인스턴스가 스키마 마이그레이션 중입니다. 잠금을 기다립니다");
+            }
+        }
+    }
+
+    private void releaseLock(Connection connection) {
+        try {
+            if (!connection.isClosed()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            log.warn("스키마 마이그레이션 잠금 해제 실패 (커넥션을 닫아 해제)", e);
+        } finally {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.warn("스키마 마이그레이션 잠금 커넥션 닫기 실패", e);
+            }
+        }
+    }
+
+    // DB별 잠금 대기 시간 초과 오류인지 (H2 50200, MariaDB 1205 등)
+    private boolean isLockTimeout(SQLException e) {
+        DataAccessException translated = jdbcTemplate.getExceptionTranslator().translate("schema lock", null, e);
+        return translated instanceof PessimisticLockingFailureException || translated instanceof QueryTimeoutException;
+    }
+
+    private void createVersionTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_version (" +
+            "version INT PRIMARY KEY, " +
+            "description VARCHAR(200) NOT NULL, " +
+            "checksum BIGINT NOT NULL, " +
+            "execution_ms BIGINT NOT NULL, " +
+            "installed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+            ")");
+    }
+
+    private List<Migration> findMigrations() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(locations + "V*__*.sql");
+
+        List<Migration> migrations = new ArrayList<>();
+        Map<Integer, String> seen = new HashMap<>();
+        for (Resource resource : resources) {
+            Matcher matcher = FILE_NAME.matcher(resource.getFilename());
+            if (!matcher.matches()) {
+                throw new IllegalStateException("마이그레이션 파일 이름 형식이 올바르지 않습니다: " + resource.getFilename());
+            }
+            int version = Integer.parseInt(matcher.group(1));
+            String previous = seen.put(version, resource.getFilename());
+            if (previous != null) {
+                throw new IllegalStateException("마이그레이션 버전이 중복되었습니다: " + previous + ", " + resource.getFilename());
+            }
+            migrations.add(new Migration(version, matcher.group(2).replace('_', ' '), resource.getFilename(),
+                checksum(resource), resource));
+        }
+        migrations.sort(Comparator.comparingInt(m -> m.version));
+        return migrations;
+    }
+
+    private void apply(Migration migration) {
+        log.info("마이그레이션 실행: {}", migration.fileName);
+        long start = System.nanoTime();
+
+        // DDL은 DB에 따라 자동 커밋되므로 각 파일은 IF NOT EXISTS 형태로 다시 실행해도 안전하게 작성합니다.
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(migration.resource, StandardCharsets.UTF_8));
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        jdbcTemplate.update("INSERT INTO schema_version (version, description, checksum, execution_ms) VALUES (?, ?, ?, ?)",
+            migration.version, migration.description, migration.checksum, elapsedMs);
+    }
+
+    // 줄바꿈 차이(CRLF/LF)는 무시한 내용 체크섬
+    private static long checksum(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            String content = new String(in.readAllBytes(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+            CRC32 crc = new CRC32();
+            crc.update(content.getBytes(StandardCharsets.UTF_8));
+            return crc.getValue();
+        }
+    }
+
+    private static class Migration {
+        private final int version;
+        private final String description;
+        private final String fileName;
+        private final long checksum;
+        private final Resource resource;
+
+        private Migration(int version, String description, String fileName, long checksum, Resource resource) {
+            this.version = version;
+            this.description = description;
+            this.fileName = fileName;
+            this.checksum = checksum;
+            this.resource = resource;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.loginbackend.config;
 
 import com.example.loginbackend.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,6 +16,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -25,9 +28,29 @@ import java.util.Arrays;
 @EnableWebSecurity
 public class SecurityConfig {
     
+    // 0이면 시작 시 목표 시간으로 cost 보정
+    @Value("${security.password.bcrypt.cost:0}")
+    private int bcryptCost;
+    
+    @Value("${security.password.bcrypt.target-ms:250}")
+    private long bcryptTargetMillis;
+    
+    @Value("${security.password.bcrypt.min-cost:10}")
+    private int bcryptMinCost;
+    
+    @Value("${security.password.bcrypt.max-cost:14}")
+    private int bcryptMaxCost;
+    
+    // 관리 엔드포인트 전용 포트 (지정하지 않으면 -1)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+    
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int cost = bcryptCost > 0
+            ? bcryptCost
+            : BCryptCostCalibrator.calibrate(bcryptTargetMillis, bcryptMinCost, bcryptMaxCost);
+        return new BCryptPasswordEncoder(cost);
     }
     
     @Bean
@@ -44,7 +67,8 @@ public class SecurityConfig {
     }
     
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthFilter) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthFilter,
+                                           AuthRateLimitFilter authRateLimitFilter) throws Exception {
         http
             .cors().configurationSource(corsConfigurationSource())
             .and()
@@ -56,14 +80,36 @@ public class SecurityConfig {
             .authorizeRequests()
                 .antMatchers("/auth/**").permitAll()
                 .antMatchers("/h2-console/**").permitAll()
+                .antMatchers("/actuator/health").permitAll()
+                .requestMatchers(onManagementPort("/actuator/prometheus")).permitAll()
+                .antMatchers("/actuator/**").hasRole("ADMIN")
+                .antMatchers("/admin/**").hasRole("ADMIN")
                 .antMatchers("/posts/**").authenticated()
                 .anyRequest().authenticated()
             .and()
+            .addFilterBefore(authRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
         
         return http.build();
     }
     
+    // 관리 포트로 들어온 요청만 일치 (관리 포트를 따로 두지 않았으면 항상 불일치)
+    // 서비스 포트로 들어온 지표 요청은 관리자 인증이 필요함
+    // 오류 페이지 권한 확인(ErrorPageSecurityFilter)에 쓰이는 가상 요청은 포트를 모르므로 불일치로 처리
+    private RequestMatcher onManagementPort(String pattern) {
+        RequestMatcher path = new AntPathRequestMatcher(pattern);
+        return request -> {
+            if (managementPort <= 0 || !path.matches(request)) {
+                return false;
+            }
+            try {
+                return request.getLocalPort() == managementPort;
+            } catch (UnsupportedOperationException e) {
+                return false;
+            }
+        };
+    }
+    
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
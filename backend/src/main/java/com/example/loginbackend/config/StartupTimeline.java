@@ -0,0 +1,161 @@
+package com.example.loginbackend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+import org.springframework.web.servlet.FrameworkServlet;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기동 단계별 소요 시간 기록
+ * JVM 시작 → 컨텍스트 생성 → (MyBatis 매퍼 XML 파싱) → 컨텍스트 refresh 완료 → DB 초기화 → 요청 처리 가능 → 첫 요청 응답 순서로
+ * 각 단계의 시간을 재고, 준비 완료 시와 첫 요청 응답 시 한 줄씩 로그에 남긴 뒤 startup.phase 게이지로 노출합니다.
+ * 읽기 모델 적재 등 ApplicationReadyEvent 리스너는 @Order(HIGHEST_PRECEDENCE)로 이 클래스보다 먼저 실행되어야 합니다.
+ * 빈 생성 시간을 재기 위해 BeanPostProcessor로 등록되므로 다른 빈을 주입받지 않습니다.
+ */
+@Component
+public class StartupTimeline implements InstantiationAwareBeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimeline.class);
+
+    // 생성 시간을 잴 빈 이름 → 단계 이름 (sqlSessionFactory 생성 시 매퍼 XML을 모두 파싱함)
+    private static final Map<String, String> TIMED_BEANS = Map.of("sqlSessionFactory", "mybatis-mappers");
+
+    private final Map<String, Long> beanStartNanos = new ConcurrentHashMap<>();
+
+    // 단계 이름 → 소요 시간(ms), 기록된 순서 유지
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+
+    private long refreshedAtMillis;
+    private volatile long readyAtMillis;
+    private volatile ApplicationContext readyContext;
+    private volatile MeterRegistry meterRegistry;
+    private final AtomicBoolean firstRequestRecorded = new AtomicBoolean();
+
+    @Override
+    public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) {
+        if (TIMED_BEANS.containsKey(beanName)) {
+            beanStartNanos.put(beanName, System.nanoTime());
+        }
+        return null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Long start = beanStartNanos.remove(beanName);
+        if (start != null) {
+            record(TIMED_BEANS.get(beanName), start);
+        }
+        return bean;
+    }
+
+    // startNanos(System.nanoTime)부터 지금까지를 한 단계로 기록
+    public void record(String phase, long startNanos) {
+        recordMillis(phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    public synchronized void recordMillis(String phase, long millis) {
+        phases.put(phase, millis);
+    }
+
+    public synchronized Map<String, Long> phases() {
+        return new LinkedHashMap<>(phases);
+    }
+
+    private synchronized double phaseMillis(String phase) {
+        Long millis = phases.get(phase);
+        return millis != null ? millis : Double.NaN;
+    }
+
+    @EventListener
+    public void onRefreshed(ContextRefreshedEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        if (context.getParent() != null) {
+            return;
+        }
+        refreshedAtMillis = System.currentTimeMillis();
+        recordMillis("jvm-to-context", context.getStartupDate() - ManagementFactory.getRuntimeMXBean().getStartTime());
+        recordMillis("context-refresh", refreshedAtMillis - context.getStartupDate());
+    }
+
+    // 다른 ApplicationReadyEvent 리스너(검색 색인/목록 저장소 적재 등, HIGHEST_PRECEDENCE)가 끝난 뒤 실행
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onReady(ApplicationReadyEvent event) {
+        long now = System.currentTimeMillis();
+        readyContext = event.getApplicationContext();
+        readyAtMillis = now;
+        if (refreshedAtMillis > 0) {
+            recordMillis("runners-and-ready-listeners", now - refreshedAtMillis);
+        }
+        recordMillis("total", now - ManagementFactory.getRuntimeMXBean().getStartTime());
+
+        Map<String, Long> snapshot = phases();
+        log.info("기동 단계별 소요 시간: {}", format(snapshot));
+
+        meterRegistry = event.getApplicationContext().getBeanProvider(MeterRegistry.class).getIfAvailable();
+        snapshot.keySet().forEach(this::registerGauge);
+    }
+
+    // 준비 완료 후 서비스 포트에서 처음 응답한 요청 (관리 포트의 자식 컨텍스트에서 온 이벤트는 제외)
+    // 요청마다 발행되는 이벤트이므로 기록 후에는 플래그 확인만 함
+    @EventListener
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (firstRequestRecorded.get() || readyAtMillis == 0 || !isServicePort(event)
+                || !firstRequestRecorded.compareAndSet(false, true)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long readyToFirstRequest = now - readyAtMillis;
+        long jvmToFirstRequest = now - ManagementFactory.getRuntimeMXBean().getStartTime();
+        recordMillis("ready-to-first-request", readyToFirstRequest);
+        recordMillis("jvm-to-first-request", jvmToFirstRequest);
+        log.info("첫 요청 응답: {} (처리 {}ms), ready-to-first-request {}ms, jvm-to-first-request {}ms",
+                event.getRequestUrl(), event.getProcessingTimeMillis(), readyToFirstRequest, jvmToFirstRequest);
+        registerGauge("ready-to-first-request");
+        registerGauge("jvm-to-first-request");
+    }
+
+    private boolean isServicePort(ServletRequestHandledEvent event) {
+        return event.getSource() instanceof FrameworkServlet
+                && ((FrameworkServlet) event.getSource()).getWebApplicationContext() == readyContext;
+    }
+
+    private void registerGauge(String phase) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            return;
+        }
+        TimeGauge.builder("startup.phase", this, TimeUnit.MILLISECONDS, timeline -> timeline.phaseMillis(phase))
+                .tag("phase", phase)
+                .description("기동 단계별 소요 시간")
+                .register(registry);
+    }
+
+    private static String format(Map<String, Long> phases) {
+        StringBuilder report = new StringBuilder();
+        phases.forEach((phase, millis) -> {
+            if (report.length() > 0) {
+                report.append(", ");
+            }
+            report.append(phase).append(' ').append(millis).append("ms");
+        });
+        return report.toString();
+    }
+}
@@ -0,0 +1,339 @@
+package com.example.loginbackend.config;
+
+import com.example.loginbackend.entity.Post;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대용량 가상 데이터 생성기 (datagen 프로필)
+ * 사용자와 게시글을 chunk 단위로 나눠 여러 스레드에서 JDBC 배치로 넣습니다.
+ * 각 행은 (seed, 테이블, 행 번호)로 만든 난수 생성기와 미리 정한 id를 쓰므로,
+ * 스레드 수, batch-size, 실행 순서와 관계없이 같은 seed면 같은 데이터가 만들어집니다. (bcrypt 해시의 salt만 다름)
+ *
+ * 분포:
+ * - 작성자: Zipf(exponent) — 소수의 사용자가 대부분의 게시글을 씀
+ * - 작성 시각: 최근으로 치우친 분포 (end-date 기준 days 일 이내)
+ * - 조회수: 로그 정규 분포
+ * - 본문: 한국어/영어 문장, 길이는 로그 정규 분포
+ */
+@Component
+@Profile("datagen")
+@Order(5) // DatabaseInitializer 다음, 검색 색인/목록 저장소 적재(ApplicationReadyEvent) 전에 실행
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    static final String PASSWORD = "datagen123";
+
+    private static final String[] KO_SUBJECTS = {"스프링", "자바", "리액트", "데이터베이스", "인덱스", "캐시", "배포 파이프라인",
+        "로그인 기능", "게시판", "트랜잭션", "쿼리", "서버", "테스트 코드", "가비지 컬렉터", "스레드 풀", "커넥션 풀"};
+    private static final String[] KO_PREDICATES = {"을 적용해 보았습니다", "의 성능을 측정했습니다", "에서 문제가 발생했습니다",
+        "을 개선하는 방법을 정리합니다", "의 동작 원리를 살펴봅니다", "을 설정할 때 주의할 점입니다", "과 관련된 경험을 공유합니다",
+        "을 다시 설계했습니다", "의 병목을 찾았습니다", "을 처음 사용해 보았습니다"};
+    private static final String[] KO_CONNECTIVES = {"그래서", "하지만", "또한", "결국", "특히", "예를 들어", "다만"};
+    private static final String[] EN_WORDS = {"spring", "java", "react", "database", "index", "cache", "query", "latency",
+        "throughput", "thread", "pool", "transaction", "server", "deploy", "login", "board", "service", "request",
+        "response", "memory", "benchmark", "the", "a", "we", "our", "this", "that", "with", "without", "after",
+        "before", "improves", "reduces", "breaks", "fixes", "measures", "uses", "needs", "is", "was", "slow", "fast"};
+    private static final String[] KO_NAMES = {"김민준", "이서연", "박지호", "최하은", "정도윤", "강서준", "조지우", "윤하준",
+        "장예은", "임시우"};
+    private static final String[] EN_NAMES = {"Alex", "Jordan", "Taylor", "Morgan", "Casey", "Riley", "Jamie", "Avery",
+        "Quinn", "Skyler"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Value("${datagen.users:10000}")
+    private int userCount;
+
+    @Value("${datagen.posts:1000000}")
+    private int postCount;
+
+    @Value("${datagen.seed:42}")
+    private long seed;
+
+    @Value("${datagen.threads:0}")
+    private int threads;
+
+    @Value("${datagen.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${datagen.zipf-exponent:1.07}")
+    private double zipfExponent;
+
+    @Value("${datagen.days:365}")
+    private int days;
+
+    @Value("${datagen.end-date:2025-01-01T00:00:00}")
+    private String endDate;
+
+    @Value("${datagen.korean-ratio:0.7}")
+    private double koreanRatio;
+
+    @Value("${datagen.exit:false}")
+    private boolean exitWhenDone;
+
+    private TransactionTemplate transactionTemplate;
+
+    static String email(int index) {
+        return "datagen" + index + "@example.com";
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, email(0));
+        if (existing != null && existing > 0) {
+            log.info("이미 생성된 가상 데이터가 있어 건너뜁니다 ({})", email(0));
+        } else {
+            generate();
+        }
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    private void generate() throws Exception {
+        long started = System.currentTimeMillis();
+        int threadCount = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        LocalDateTime end = LocalDateTime.parse(endDate);
+
+        // 기존 데이터 뒤에 이어서 id를 직접 지정
+        long userBase = maxId("users");
+        long postBase = maxId("posts");
+
+        // 모든 사용자가 같은 비밀번호를 쓰므로 해시는 한 번만 계산
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        ZipfSampler authors = new ZipfSampler(userCount, zipfExponent);
+
+        log.info("가상 데이터 생성 시작: 사용자 {}명, 게시글 {}건, seed {}, 스레드 {}", userCount, postCount, seed, threadCount);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            // 게시글이 사용자를 참조하므로 사용자를 먼저 모두 넣음
+            runChunks(executor, "users", userCount, (from, to) ->
+                insertUsers(from, to, userBase, encodedPassword, end));
+            runChunks(executor, "posts", postCount, (from, to) ->
+                insertPosts(from, to, postBase, userBase, authors, end));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        restartIdentity("users", userBase + userCount + 1);
+        restartIdentity("posts", postBase + postCount + 1);
+
+        log.info("가상 데이터 생성 완료: 사용자 {}명, 게시글 {}건 ({}ms)", userCount, postCount,
+            System.currentTimeMillis() - started);
+    }
+
+    private void runChunks(ExecutorService executor, String table, int total, ChunkWriter writer) throws Exception {
+        int chunks = (total + batchSize - 1) / batchSize;
+        AtomicLong written = new AtomicLong();
+        long logEvery = Math.max(batchSize, total / 10);
+
+        List<Future<?>> futures = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int from = chunk * batchSize;
+            int to = Math.min(total, from + batchSize);
+            futures.add(executor.submit(() -> {
+                transactionTemplate.executeWithoutResult(status -> writer.write(from, to));
+                long done = written.addAndGet(to - from);
+                if (done / logEvery != (done - (to - from)) / logEvery) {
+                    log.info("{} {}/{}", table, done, total);
+                }
+            }));
+        }
+        // 실패한 chunk가 있으면 예외를 그대로 전달
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private void insertUsers(int from, int to, long userBase, String encodedPassword, LocalDateTime end) {
+        List<Object[]> rows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            SplittableRandom random = random(1, i);
+            Timestamp createdAt = Timestamp.valueOf(skewedTime(random, end, days * 2));
+            rows.add(new Object[]{userBase + i + 1, email(i), name(i), encodedPassword, "USER", createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, name, password, role, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void insertPosts(int from, int to, long postBase, long userBase, ZipfSampler authors,
+                             LocalDateTime end) {
+        List<Object[]> rows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            SplittableRandom random = random(2, i);
+            int author = authors.sample(random);
+            boolean korean = random.nextDouble() < koreanRatio;
+            String title = truncate(korean ? koreanSentence(random, false) : englishSentence(random, 3 + random.nextInt(8)), 200);
+            String content = content(random, korean);
+            LocalDateTime createdAt = skewedTime(random, end, days);
+            // 10%는 작성 후 수정된 게시글
+            LocalDateTime updatedAt = random.nextInt(10) == 0
+                ? min(createdAt.plusMinutes(1 + random.nextInt(60 * 24 * 30)), end)
+                : createdAt;
+            rows.add(new Object[]{
+                postBase + i + 1, title, content, Post.createExcerpt(content),
+                userBase + author + 1, name(author), email(author),
+                viewCount(random), Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt)
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO posts (id, title, content, excerpt, author_id, author_name, author_email, "
+            + "view_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    // (seed, 테이블, 행 번호)마다 고정된 난수열 (chunk 경계와 무관)
+    private SplittableRandom random(int stream, int row) {
+        return new SplittableRandom(seed * 1_000_003L + stream * 0x9E3779B97F4A7C15L + row * 0xBF58476D1CE4E5B9L);
+    }
+
+    private static String name(int index) {
+        String[] names = index % 3 == 2 ? EN_NAMES : KO_NAMES;
+        return names[index % names.length] + index;
+    }
+
+    // end 기준 최근일수록 많이 나오는 시각 (나이 = span * u^3)
+    private static LocalDateTime skewedTime(SplittableRandom random, LocalDateTime end, int spanDays) {
+        double u = random.nextDouble();
+        long ageSeconds = (long) (u * u * u * spanDays * 86_400L);
+        return end.minusSeconds(ageSeconds);
+    }
+
+    // 로그 정규 분포 조회수 (중앙값 약 20, 긴 꼬리)
+    private static int viewCount(SplittableRandom random) {
+        double views = Math.exp(3.0 + 1.6 * gaussian(random));
+        return (int) Math.min(views, 10_000_000);
+    }
+
+    // 문장 수가 로그 정규 분포인 본문 (중앙값 약 6문장, 최대 300문장)
+    private String content(SplittableRandom random, boolean korean) {
+        int sentences = (int) Math.min(300, Math.max(1, Math.round(Math.exp(1.8 + 0.9 * gaussian(random)))));
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                content.append(random.nextInt(8) == 0 ? "\n\n" : " ");
+            }
+            content.append(korean ? koreanSentence(random, i > 0) : englishSentence(random, 5 + random.nextInt(15)));
+        }
+        return content.toString();
+    }
+
+    private static String koreanSentence(SplittableRandom random, boolean connective) {
+        StringBuilder sentence = new StringBuilder();
+        if (connective && random.nextInt(3) == 0) {
+            sentence.append(KO_CONNECTIVES[random.nextInt(KO_CONNECTIVES.length)]).append(' ');
+        }
+        sentence.append(KO_SUBJECTS[random.nextInt(KO_SUBJECTS.length)])
+            .append(KO_PREDICATES[random.nextInt(KO_PREDICATES.length)])
+            .append('.');
+        return sentence.toString();
+    }
+
+    private static String englishSentence(SplittableRandom random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            String word = EN_WORDS[random.nextInt(EN_WORDS.length)];
+            if (i == 0) {
+                sentence.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+            } else {
+                sentence.append(' ').append(word);
+            }
+        }
+        return sentence.append('.').toString();
+    }
+
+    // 표준 정규 분포 (Box-Muller)
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max != null ? max : 0;
+    }
+
+    // id를 직접 넣었으므로 이후 AUTO_INCREMENT가 겹치지 않도록 다음 값을 조정
+    private void restartIdentity(String table, long next) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        if ("H2".equals(product)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + next);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(int from, int to);
+    }
+
+    /**
+     * Zipf 분포 표본 추출 (순위 k의 가중치 1/k^s, 누적 가중치 이진 탐색)
+     * 0부터 시작하는 순위(= 사용자 번호)를 반환합니다.
+     */
+    static class ZipfSampler {
+        private final double[] cumulative;
+
+        ZipfSampler(int size, double exponent) {
+            cumulative = new double[Math.max(1, size)];
+            double sum = 0;
+            for (int k = 0; k < cumulative.length; k++) {
+                sum += 1.0 / Math.pow(k + 1, exponent);
+                cumulative[k] = sum;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, target);
+            return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.loginbackend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 (GCRA 방식)
+ * 버킷 상태를 "다음 요청이 허용되는 이론적 시각" 하나의 long으로 표현하고 CAS로 갱신하므로 잠금이 없습니다.
+ * 오래 사용되지 않은 키는 만료되고 전체 키 수도 상한이 있어 메모리가 일정 이상 늘지 않습니다.
+ */
+public class TokenBucketRateLimiter {
+
+    // 허용이면 0, 거부면 다시 시도할 수 있을 때까지 남은 나노초
+    public static final long ALLOWED = 0L;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final Cache<String, AtomicLong> buckets;
+
+    /**
+     * @param permitsPerMinute 분당 허용 요청 수 (버킷 충전 속도)
+     * @param burst            한 번에 허용하는 최대 요청 수 (버킷 크기)
+     */
+    public TokenBucketRateLimiter(int permitsPerMinute, int burst, long maxKeys, long idleExpireSeconds) {
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, permitsPerMinute);
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(1, burst);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleExpireSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 요청 하나를 소비합니다. 허용이면 ALLOWED(0), 거부면 재시도까지 남은 나노초를 반환합니다.
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long theoreticalArrival = bucket.get();
+            long next = Math.max(theoreticalArrival, now) + emissionIntervalNanos;
+            long waitNanos = next - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(theoreticalArrival, next)) {
+                return ALLOWED;
+            }
+        }
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
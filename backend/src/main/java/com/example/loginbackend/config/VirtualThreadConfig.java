@@ -0,0 +1,148 @@
+package com.example.loginbackend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 요청 처리 모드 (spring.threads.virtual.enabled=true)
+ * JDK 21 이상이면 Tomcat 요청 처리와 애플리케이션 비동기 작업(applicationTaskExecutor)을 가상 스레드에서 실행합니다.
+ * 빌드 대상이 Java 11이므로 가상 스레드 API는 리플렉션으로 호출하고, JDK 21 미만이면 기존 스레드 풀을 그대로 사용합니다.
+ *
+ * 요청 동시성을 Tomcat 스레드 수가 더 이상 막아 주지 않으므로, DataSource를 JdbcConcurrencyGate로 감싸
+ * JDBC 안에 들어가는 가상 스레드 수를 커넥션 풀 크기(db.virtual-threads.max-concurrent-connections)로 묶습니다.
+ * JDBC 드라이버(H2 등) 내부의 synchronized 구간에서 블로킹되면 가상 스레드가 캐리어 스레드에 고정(pinning)될 수 있으며,
+ * 고정 위치는 -Djdk.tracePinnedThreads=short 또는 JFR jdk.VirtualThreadPinned 이벤트로 확인합니다.
+ * 캐리어 수를 CPU 코어 수보다 늘려도 CPU가 늘지는 않으므로, 코어가 적은 환경에서는 캐리어끼리 코어를 나눠 쓰며 지연만 커집니다.
+ * 캐리어 수(jdk.virtualThreadScheduler.parallelism)는 첫 가상 스레드가 만들어질 때 한 번만 읽히므로
+ * JVM 옵션으로만 지정할 수 있고, 실행 중에 설정된 값이 보이면 기동을 중단합니다.
+ * 비밀번호 해시처럼 CPU를 쓰는 작업은 가상 스레드로 옮기지 않고 PasswordHashingExecutor에 남겨 둡니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    private static final String PARALLELISM_PROPERTY = "jdk.virtualThreadScheduler.parallelism";
+
+    @Bean(destroyMethod = "shutdown")
+    @Conditional(VirtualThreadsAvailable.class)
+    public ExecutorService virtualThreadExecutor() {
+        String parallelism = System.getProperty(PARALLELISM_PROPERTY);
+        if (parallelism == null) {
+            log.info("가상 스레드 요청 처리 모드: 캐리어 스레드 {}개 (JDK 기본값, CPU 코어 수)",
+                    Runtime.getRuntime().availableProcessors());
+        } else if (!isJvmOption(PARALLELISM_PROPERTY)) {
+            // 이미 가상 스레드가 만들어진 뒤라면 적용되지 않으므로 조용히 무시되지 않게 함
+            throw new IllegalStateException(PARALLELISM_PROPERTY + "=" + parallelism
+                    + " 이(가) 실행 중에 설정되었습니다. JVM 옵션(-D" + PARALLELISM_PROPERTY + "=...)으로 지정하세요");
+        } else {
+            log.info("가상 스레드 요청 처리 모드: 캐리어 스레드 {}개 (JVM 옵션)", parallelism);
+            int processors = Runtime.getRuntime().availableProcessors();
+            if (Integer.parseInt(parallelism.trim()) > processors) {
+                // 캐리어가 짧은 잠금(selector 등)을 쥔 채 OS에 선점되면 Tomcat poller까지 멈춤
+                log.warn("캐리어 스레드 수({})가 CPU 코어 수({})보다 많습니다. 코어를 나눠 쓰느라 꼬리 지연이 커질 수 있습니다",
+                        parallelism, processors);
+            }
+        }
+        return newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    @Conditional(VirtualThreadsAvailable.class)
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    // MVC 비동기 처리 등에서 사용하는 기본 실행기
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @Conditional(VirtualThreadsAvailable.class)
+    public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    // JDBC 동시 실행 상한 (0이면 spring.datasource.hikari.maximum-pool-size, 대기 시간은 풀의 connection-timeout)
+    // BeanPostProcessor이므로 static으로 등록해 설정 클래스를 일찍 만들지 않음
+    @Bean
+    @Conditional(VirtualThreadsAvailable.class)
+    public static BeanPostProcessor jdbcConcurrencyGatePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof JdbcConcurrencyGate) {
+                    return bean;
+                }
+                int maxConcurrent = environment.getProperty("db.virtual-threads.max-concurrent-connections", Integer.class, 0);
+                if (maxConcurrent <= 0) {
+                    maxConcurrent = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                }
+                long timeoutMillis = environment.getProperty("spring.datasource.hikari.connection-timeout", Long.class, 30000L);
+                log.info("가상 스레드 모드 JDBC 동시 실행 상한: {} ({}), 대기 {}ms", maxConcurrent, beanName, timeoutMillis);
+                return new JdbcConcurrencyGate((DataSource) bean, maxConcurrent, timeoutMillis);
+            }
+        };
+    }
+
+    @Bean
+    @Conditional(VirtualThreadsUnavailable.class)
+    public ApplicationRunner virtualThreadFallbackNotice() {
+        return args -> log.warn("가상 스레드는 JDK 21 이상에서만 사용할 수 있습니다 (현재 {}). 기존 스레드 풀로 실행합니다",
+                System.getProperty("java.version"));
+    }
+
+    // JVM 명령행(JDK_JAVA_OPTIONS, JAVA_TOOL_OPTIONS 포함)에서 지정된 시스템 속성인지
+    private static boolean isJvmOption(String property) {
+        String prefix = "-D" + property + "=";
+        return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(argument -> argument.startsWith(prefix));
+    }
+
+    private static Method virtualThreadFactoryMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) virtualThreadFactoryMethod().invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다", e);
+        }
+    }
+
+    static class VirtualThreadsAvailable implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return virtualThreadFactoryMethod() != null;
+        }
+    }
+
+    static class VirtualThreadsUnavailable implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return virtualThreadFactoryMethod() == null;
+        }
+    }
+}
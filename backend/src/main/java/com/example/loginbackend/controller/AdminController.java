@@ -0,0 +1,52 @@
+package com.example.loginbackend.controller;
+
+import com.example.loginbackend.entity.User;
+import com.example.loginbackend.service.PostImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
+public class AdminController {
+    
+    @Autowired
+    private PostImportService postImportService;
+    
+    // 게시글 일괄 가져오기 (NDJSON: 한 줄에 {"title", "content", "authorEmail"?, "createdAt"?, "viewCount"?})
+    // 본문은 메모리에 모으지 않고 줄 단위로 읽으며, 잘못된 줄은 건너뛰고 결과에 줄 번호와 함께 보고
+    @PostMapping(value = "/posts/import", consumes = {"application/x-ndjson", "application/json", "text/plain"})
+    public ResponseEntity<Map<String, Object>> importPosts(
+            InputStream body,
+            @RequestParam(required = false) Integer chunkSize,
+            Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof User)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        try {
+            User importer = (User) authentication.getPrincipal();
+            PostImportService.ImportResult result = postImportService.importPosts(body, importer, chunkSize);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("imported", result.getImported());
+            response.put("failed", result.getFailed());
+            response.put("errors", result.getErrors());
+            response.put("elapsedMillis", result.getElapsedMillis());
+            response.put("postsPerSecond", Math.round(result.getPostsPerSecond()));
+            
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "게시글 가져오기 중 오류가 발생했습니다: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(errorResponse);
+        }
+    }
+}
@@ -5,9 +5,15 @@ import com.example.loginbackend.dto.LoginResponse;
 import com.example.loginbackend.dto.RegisterRequest;
 import com.example.loginbackend.entity.User;
 import com.example.loginbackend.service.JwtService;
+import com.example.loginbackend.service.PasswordHashingBusyException;
+import com.example.loginbackend.service.PasswordHashingExecutor;
 import com.example.loginbackend.service.UserService;
 import javax.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -16,12 +22,15 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/auth")
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
 public class AuthController {
     
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+    
     @Autowired
     private AuthenticationManager authenticationManager;
     
@@ -31,33 +40,40 @@ public class AuthController {
     @Autowired
     private JwtService jwtService;
     
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+    
+    // BCrypt 검증은 비밀번호 해시 실행기에서 처리하고 요청 스레드는 바로 반환
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        if (loginRequest == null) {
+            log.debug("로그인 요청 데이터 없음");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                .body(LoginResponse.failure("요청 데이터가 없습니다")));
+        }
+        
+        if (loginRequest.getEmail() == null || loginRequest.getEmail().trim().isEmpty()) {
+            log.debug("로그인 요청 이메일 없음");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                .body(LoginResponse.failure("이메일을 입력해주세요")));
+        }
+        
+        if (loginRequest.getPassword() == null || loginRequest.getPassword().trim().isEmpty()) {
+            log.debug("로그인 요청 비밀번호 없음: email={}", loginRequest.getEmail());
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                .body(LoginResponse.failure("비밀번호를 입력해주세요")));
+        }
+        
+        try {
+            return passwordHashingExecutor.submit(() -> authenticate(loginRequest));
+        } catch (PasswordHashingBusyException e) {
+            log.warn("로그인 요청 거부 (비밀번호 해시 실행기 포화): email={}", loginRequest.getEmail());
+            return CompletableFuture.completedFuture(busy(e));
+        }
+    }
+    
+    private ResponseEntity<LoginResponse> authenticate(LoginRequest loginRequest) {
         try {
-            System.out.println("=== 로그인 요청 시작 ===");
-            System.out.println("요청 이메일: " + (loginRequest != null ? loginRequest.getEmail() : "null"));
-            System.out.println("요청 비밀번호 길이: " + (loginRequest != null && loginRequest.getPassword() != null ? loginRequest.getPassword().length() : "null"));
-            
-            if (loginRequest == null) {
-                System.out.println("LoginRequest가 null입니다");
-                return ResponseEntity.badRequest()
-                    .body(LoginResponse.failure("요청 데이터가 없습니다"));
-            }
-            
-            if (loginRequest.getEmail() == null || loginRequest.getEmail().trim().isEmpty()) {
-                System.out.println("이메일이 비어있습니다");
-                return ResponseEntity.badRequest()
-                    .body(LoginResponse.failure("이메일을 입력해주세요"));
-            }
-            
-            if (loginRequest.getPassword() == null || loginRequest.getPassword().trim().isEmpty()) {
-                System.out.println("비밀번호가 비어있습니다");
-                return ResponseEntity.badRequest()
-                    .body(LoginResponse.failure("비밀번호를 입력해주세요"));
-            }
-            
-            System.out.println("로그인 시도: " + loginRequest.getEmail());
-            
             // 사용자 인증
             Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
@@ -66,47 +82,54 @@ public class AuthController {
                 )
             );
             
-            System.out.println("인증 성공: " + authentication.getName());
-            
-            // 사용자 정보 조회
-            Optional<User> userOptional = userService.findByEmail(loginRequest.getEmail());
+            // 사용자 정보 조회 (인증 과정에서 적재한 주체 재사용)
+            Optional<User> userOptional = authentication.getPrincipal() instanceof User
+                ? Optional.of((User) authentication.getPrincipal())
+                : userService.findByEmail(loginRequest.getEmail());
             if (userOptional.isEmpty()) {
-                System.out.println("사용자를 찾을 수 없음: " + loginRequest.getEmail());
+                log.warn("인증 후 사용자 조회 실패: email={}", loginRequest.getEmail());
                 return ResponseEntity.badRequest()
                     .body(LoginResponse.failure("사용자를 찾을 수 없습니다"));
             }
             
             User user = userOptional.get();
-            System.out.println("사용자 조회 성공: " + user.getEmail() + ", Role: " + user.getRole());
             
             // JWT 토큰 생성
             String token = jwtService.generateToken(user);
-            System.out.println("JWT 토큰 생성 완료");
-            System.out.println("=== 로그인 요청 완료 ===");
+            log.info("로그인 성공: email={}, role={}", user.getEmail(), user.getRole());
             
             return ResponseEntity.ok(LoginResponse.success(token, user.getEmail()));
             
         } catch (BadCredentialsException e) {
-            System.out.println("인증 실패: " + e.getMessage());
+            log.info("로그인 실패: email={}, reason={}", loginRequest.getEmail(), e.getMessage());
             return ResponseEntity.badRequest()
                 .body(LoginResponse.failure("이메일 또는 비밀번호가 올바르지 않습니다"));
         } catch (Exception e) {
-            System.out.println("로그인 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.error("로그인 오류: email={}", loginRequest.getEmail(), e);
             return ResponseEntity.internalServerError()
                 .body(LoginResponse.failure("로그인 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
     
+    // 비밀번호 해시는 비밀번호 해시 실행기에서 처리
     @PostMapping("/register")
-    public ResponseEntity<LoginResponse> register(@Valid @RequestBody RegisterRequest registerRequest) {
+    public CompletableFuture<ResponseEntity<LoginResponse>> register(@Valid @RequestBody RegisterRequest registerRequest) {
+        // 비밀번호 일치 검증
+        if (!registerRequest.isPasswordMatching()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                .body(LoginResponse.failure("비밀번호가 일치하지 않습니다")));
+        }
+        
+        try {
+            return passwordHashingExecutor.submit(() -> createAccount(registerRequest));
+        } catch (PasswordHashingBusyException e) {
+            log.warn("회원가입 요청 거부 (비밀번호 해시 실행기 포화): email={}", registerRequest.getEmail());
+            return CompletableFuture.completedFuture(busy(e));
+        }
+    }
+    
+    private ResponseEntity<LoginResponse> createAccount(RegisterRequest registerRequest) {
         try {
-            // 비밀번호 일치 검증
-            if (!registerRequest.isPasswordMatching()) {
-                return ResponseEntity.badRequest()
-                    .body(LoginResponse.failure("비밀번호가 일치하지 않습니다"));
-            }
-            
             // 사용자 생성
             User user = userService.createUser(
                 registerRequest.getEmail(), 
@@ -128,6 +151,27 @@ public class AuthController {
         }
     }
     
+    // 실행기 포화 시 503 + Retry-After
+    private static ResponseEntity<LoginResponse> busy(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(LoginResponse.failure(e.getMessage()));
+    }
+    
+    // 모든 기기에서 로그아웃 (발급된 토큰 일괄 폐기)
+    @PostMapping("/revoke")
+    public ResponseEntity<LoginResponse> revokeTokens(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof User)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(LoginResponse.failure("로그인이 필요합니다"));
+        }
+        
+        User user = (User) authentication.getPrincipal();
+        userService.revokeTokens(user.getId());
+        
+        return ResponseEntity.ok(new LoginResponse(null, user.getEmail(), "발급된 토큰이 모두 폐기되었습니다", true));
+    }
+    
     @GetMapping("/test")
     public ResponseEntity<String> test() {
         return ResponseEntity.ok("백엔드 서버가 정상적으로 작동중입니다!");
@@ -146,7 +190,7 @@ public class AuthController {
     @GetMapping("/verify-password")
     public ResponseEntity<String> verifyPassword(@RequestParam String email, @RequestParam String password) {
         try {
-            System.out.println("비밀번호 검증 테스트: " + email + " / " + password);
+            log.debug("비밀번호 검증 테스트: email={}", email);
             
             Optional<User> userOptional = userService.findByEmail(email);
             if (userOptional.isEmpty()) {
@@ -162,12 +206,11 @@ public class AuthController {
                 email, password, storedHash, isValid
             );
             
-            System.out.println("비밀번호 검증 결과: " + isValid);
+            log.debug("비밀번호 검증 결과: email={}, valid={}", email, isValid);
             return ResponseEntity.ok(result);
             
         } catch (Exception e) {
-            System.err.println("비밀번호 검증 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.error("비밀번호 검증 오류: email={}", email, e);
             return ResponseEntity.internalServerError().body("Error: " + e.getMessage());
         }
     }
@@ -175,23 +218,20 @@ public class AuthController {
     @GetMapping("/db-status")
     public ResponseEntity<String> checkDatabaseStatus() {
         try {
-            System.out.println("데이터베이스 상태 확인 시작...");
-            
             // 간단한 데이터베이스 상태 확인
             Optional<User> testUser = userService.findByEmail("test@example.com");
             if (testUser.isPresent()) {
                 User user = testUser.get();
                 String result = String.format("데이터베이스 연결 정상.\n테스트 사용자: %s (%s, %s)", 
                     user.getName(), user.getEmail(), user.getRole());
-                System.out.println("DB 상태 확인 성공: " + result);
+                log.debug("DB 상태 확인 성공: {}", result);
                 return ResponseEntity.ok(result);
             } else {
-                System.out.println("테스트 사용자를 찾을 수 없음");
+                log.debug("DB 상태 확인: 테스트 사용자 없음");
                 return ResponseEntity.ok("데이터베이스 연결 정상. 테스트 사용자 없음.");
             }
         } catch (Exception e) {
-            System.err.println("데이터베이스 연결 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.error("데이터베이스 연결 오류", e);
             return ResponseEntity.internalServerError().body("데이터베이스 연결 오류: " + e.getMessage());
         }
     }
@@ -199,43 +239,36 @@ public class AuthController {
     @GetMapping("/test-user")
     public ResponseEntity<String> testUserLoad() {
         try {
-            System.out.println("사용자 로드 테스트 시작...");
-            
             // UserDetailsService를 통한 사용자 로드 테스트
             org.springframework.security.core.userdetails.UserDetails userDetails = 
                 userService.loadUserByUsername("test@example.com");
             
             String result = String.format("사용자 로드 성공: %s, 권한: %s", 
                 userDetails.getUsername(), userDetails.getAuthorities());
-            System.out.println(result);
+            log.debug(result);
             return ResponseEntity.ok(result);
             
         } catch (Exception e) {
-            System.err.println("사용자 로드 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("사용자 로드 실패", e);
             return ResponseEntity.internalServerError().body("사용자 로드 실패: " + e.getMessage());
         }
     }
     
     @PostMapping("/test-login")
     public ResponseEntity<String> testLogin(@RequestBody String rawBody) {
-        System.out.println("=== 테스트 로그인 요청 ===");
-        System.out.println("Raw Body: " + rawBody);
-        System.out.println("Content-Type: " + "application/json");
+        log.debug("테스트 로그인 요청: bodyLength={}", rawBody.length());
         
         try {
             // JSON 파싱 테스트
             com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
             LoginRequest loginRequest = mapper.readValue(rawBody, LoginRequest.class);
             
-            System.out.println("파싱된 이메일: " + loginRequest.getEmail());
-            System.out.println("파싱된 비밀번호 길이: " + (loginRequest.getPassword() != null ? loginRequest.getPassword().length() : "null"));
+            log.debug("테스트 로그인 파싱 성공: email={}", loginRequest.getEmail());
             
             return ResponseEntity.ok("테스트 로그인 요청 파싱 성공");
             
         } catch (Exception e) {
-            System.err.println("테스트 로그인 파싱 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("테스트 로그인 파싱 실패: {}", e.getMessage());
             return ResponseEntity.badRequest().body("파싱 실패: " + e.getMessage());
         }
     }
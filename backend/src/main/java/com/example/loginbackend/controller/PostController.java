@@ -1,21 +1,35 @@
 package com.example.loginbackend.controller;
 
+import com.example.loginbackend.dto.ErrorResponse;
+import com.example.loginbackend.dto.PostCursor;
+import com.example.loginbackend.dto.PostDetailResponse;
+import com.example.loginbackend.dto.PostListResponse;
 import com.example.loginbackend.dto.PostRequest;
 import com.example.loginbackend.dto.PostResponse;
 import com.example.loginbackend.entity.User;
+import com.example.loginbackend.service.PostExportBusyException;
+import com.example.loginbackend.service.PostExportService;
 import com.example.loginbackend.service.PostService;
 import com.example.loginbackend.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
-import java.util.HashMap;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @RestController
 @RequestMapping("/posts")
@@ -28,81 +42,106 @@ public class PostController {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private PostExportService postExportService;
+    
     // 현재 로그인한 사용자 정보 가져오기
+    // 인증 필터가 이미 적재한 User 주체를 그대로 사용하고, 아닌 경우에만 조회
     private User getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof User) {
+            return (User) authentication.getPrincipal();
+        }
         String email = authentication.getName();
         return userService.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
     }
     
     // 게시글 목록 조회
+    // cursor 파라미터가 있으면 커서 페이징(빈 값이면 첫 페이지), 없으면 기존 페이지 번호 방식
+    // count=false면 전체 건수 없이 hasNext만 응답
+    // 마지막 응답 이후 게시글 쓰기가 없으면 SELECT 없이 304 응답 (조회수 변화는 반영하지 않음)
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllPosts(
+    public ResponseEntity<?> getAllPosts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean count,
+            WebRequest webRequest) {
         try {
-            PostResponse.PagedResult result = postService.getAllPosts(page, size);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("posts", result.getPosts());
-            response.put("currentPage", result.getCurrentPage());
-            response.put("totalPages", result.getTotalPages());
-            response.put("totalElements", result.getTotalCount());
-            response.put("hasNext", result.getCurrentPage() < result.getTotalPages() - 1);
-            response.put("hasPrevious", result.getCurrentPage() > 0);
+            size = pageSize(size);
+            page = Math.max(0, page);
+            String variant = cursor != null
+                    ? "c" + size + "-" + cursorKey(cursor)
+                    : (count ? "p" : "s") + page + "-" + size;
+            if (webRequest.checkNotModified(postService.listETag(variant))) {
+                return null;
+            }
             
-            return ResponseEntity.ok(response);
+            if (cursor != null) {
+                return ResponseEntity.ok(postService.getPostsByCursor(cursor, size));
+            }
+            if (!count) {
+                return ResponseEntity.ok(postService.getPostsWithoutCount(page, size));
+            }
+            return ResponseEntity.ok(postService.getAllPosts(page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", "게시글 목록을 불러오는 중 오류가 발생했습니다");
-            return ResponseEntity.internalServerError().body(errorResponse);
+            return ResponseEntity.internalServerError().body(new ErrorResponse("게시글 목록을 불러오는 중 오류가 발생했습니다"));
         }
     }
     
     // 게시글 상세 조회
+    // ETag/Last-Modified는 updated_at과 author_updated_at 중 늦은 시각 기준이며 조회수는 포함하지 않음 (304 응답도 조회수에 집계)
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getPostById(@PathVariable Long id) {
+    public ResponseEntity<?> getPostById(@PathVariable Long id, WebRequest webRequest) {
         try {
+            // 조건부 요청이면 수정 시각만 조회해서 304 여부를 먼저 판단
+            if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                    || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+                Optional<LocalDateTime> lastModified = postService.getPostLastModified(id);
+                if (lastModified.isPresent() && webRequest.checkNotModified(
+                        PostService.postETag(id, lastModified.get()),
+                        PostService.toEpochMillis(lastModified.get()))) {
+                    postService.recordView(id);
+                    return null;
+                }
+            }
+            
             Optional<PostResponse> post = postService.getPostById(id);
             if (post.isPresent()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("post", post.get());
-                return ResponseEntity.ok(response);
+                LocalDateTime lastModified = post.get().getLastModified();
+                if (lastModified != null) {
+                    // 응답에 ETag/Last-Modified 헤더 설정
+                    webRequest.checkNotModified(PostService.postETag(id, lastModified), PostService.toEpochMillis(lastModified));
+                }
+                
+                return ResponseEntity.ok(new PostDetailResponse(post.get()));
             } else {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("error", "게시글을 찾을 수 없습니다");
                 return ResponseEntity.notFound().build();
             }
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", "게시글을 불러오는 중 오류가 발생했습니다");
-            return ResponseEntity.internalServerError().body(errorResponse);
+            return ResponseEntity.internalServerError().body(new ErrorResponse("게시글을 불러오는 중 오류가 발생했습니다"));
         }
     }
     
     // 게시글 생성
     @PostMapping
-    public ResponseEntity<Map<String, Object>> createPost(@Valid @RequestBody PostRequest request) {
+    public ResponseEntity<?> createPost(@Valid @RequestBody PostRequest request) {
         try {
             User currentUser = getCurrentUser();
             PostResponse createdPost = postService.createPost(request, currentUser);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("post", createdPost);
-            response.put("message", "게시글이 성공적으로 작성되었습니다");
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new PostDetailResponse(createdPost, "게시글이 성공적으로 작성되었습니다"));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(errorResponse);
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         }
     }
     
     // 게시글 수정
     @PutMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> updatePost(
+    public ResponseEntity<?> updatePost(
             @PathVariable Long id, 
             @Valid @RequestBody PostRequest request) {
         try {
@@ -110,94 +149,130 @@ public class PostController {
             Optional<PostResponse> updatedPost = postService.updatePost(id, request, currentUser);
             
             if (updatedPost.isPresent()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("post", updatedPost.get());
-                response.put("message", "게시글이 성공적으로 수정되었습니다");
-                return ResponseEntity.ok(response);
+                return ResponseEntity.ok(new PostDetailResponse(updatedPost.get(), "게시글이 성공적으로 수정되었습니다"));
             } else {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("error", "게시글을 찾을 수 없습니다");
                 return ResponseEntity.notFound().build();
             }
         } catch (RuntimeException e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(errorResponse);
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", "게시글 수정 중 오류가 발생했습니다");
-            return ResponseEntity.internalServerError().body(errorResponse);
+            return ResponseEntity.internalServerError().body(new ErrorResponse("게시글 수정 중 오류가 발생했습니다"));
         }
     }
     
     // 게시글 삭제
     @DeleteMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> deletePost(@PathVariable Long id) {
+    public ResponseEntity<?> deletePost(@PathVariable Long id) {
         try {
             User currentUser = getCurrentUser();
             boolean deleted = postService.deletePost(id, currentUser);
             
-            Map<String, Object> response = new HashMap<>();
             if (deleted) {
-                response.put("message", "게시글이 성공적으로 삭제되었습니다");
-                return ResponseEntity.ok(response);
+                return ResponseEntity.ok(Map.of("message", "게시글이 성공적으로 삭제되었습니다"));
             } else {
-                response.put("error", "게시글을 찾을 수 없습니다");
                 return ResponseEntity.notFound().build();
             }
         } catch (RuntimeException e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(errorResponse);
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", "게시글 삭제 중 오류가 발생했습니다");
-            return ResponseEntity.internalServerError().body(errorResponse);
+            return ResponseEntity.internalServerError().body(new ErrorResponse("게시글 삭제 중 오류가 발생했습니다"));
+        }
+    }
+    
+    // 게시글 내보내기 (NDJSON 또는 CSV)
+    // 커서로 읽은 행을 바로 응답 스트림에 쓰므로 전체 결과를 메모리에 올리지 않음
+    // 전역 비동기 제한 시간(spring.mvc.async.request-timeout) 대신 posts.export.timeout-ms를 사용
+    // 동시 실행 수(posts.export.max-concurrent)를 넘으면 DB 연결 풀을 점유하지 않도록 바로 503 + Retry-After
+    @GetMapping("/export")
+    public WebAsyncTask<ResponseEntity<?>> exportPosts(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletResponse response) {
+        PostExportService.Format exportFormat;
+        try {
+            exportFormat = PostExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return new WebAsyncTask<>(() -> ResponseEntity.badRequest().body(new ErrorResponse("지원하지 않는 형식입니다 (ndjson, csv)")));
+        }
+        
+        try {
+            postExportService.acquire();
+        } catch (PostExportBusyException e) {
+            return new WebAsyncTask<>(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(new ErrorResponse(e.getMessage())));
         }
+        
+        boolean csv = exportFormat == PostExportService.Format.CSV;
+        response.setContentType(csv ? "text/csv;charset=UTF-8" : "application/x-ndjson");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts." + (csv ? "csv" : "ndjson") + "\"");
+        // 작업이 실행되면 작업이, 실행되기 전에 요청이 끝나면(제한 시간 초과 등) 완료 콜백이 한 번만 반환
+        AtomicBoolean started = new AtomicBoolean();
+        WebAsyncTask<ResponseEntity<?>> task = new WebAsyncTask<>(postExportService.getTimeoutMillis(), () -> {
+            if (!started.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                postExportService.export(exportFormat, authorId, from, to, response.getOutputStream());
+            } finally {
+                postExportService.release();
+            }
+            return null;
+        });
+        task.onCompletion(() -> {
+            if (started.compareAndSet(false, true)) {
+                postExportService.release();
+            }
+        });
+        return task;
     }
     
     // 게시글 검색
     @GetMapping("/search")
-    public ResponseEntity<Map<String, Object>> searchPosts(
+    public ResponseEntity<?> searchPosts(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         try {
-            PostResponse.PagedResult result = postService.searchPosts(keyword, page, size);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("posts", result.getPosts());
-            response.put("currentPage", result.getCurrentPage());
-            response.put("totalPages", result.getTotalPages());
-            response.put("totalElements", result.getTotalCount());
-            response.put("hasNext", result.getCurrentPage() < result.getTotalPages() - 1);
-            response.put("hasPrevious", result.getCurrentPage() > 0);
-            response.put("keyword", keyword);
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(postService.searchPosts(keyword, Math.max(0, page), pageSize(size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", "게시글 검색 중 오류가 발생했습니다");
-            return ResponseEntity.internalServerError().body(errorResponse);
+            return ResponseEntity.internalServerError().body(new ErrorResponse("게시글 검색 중 오류가 발생했습니다"));
         }
     }
     
-    // 내 게시글 조회
+    // 내 게시글 조회 (커서 페이징, cursor가 없으면 최신 게시글부터)
     @GetMapping("/my")
-    public ResponseEntity<Map<String, Object>> getMyPosts() {
+    public ResponseEntity<?> getMyPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         try {
             User currentUser = getCurrentUser();
-            List<PostResponse> posts = postService.getPostsByAuthor(currentUser.getId());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("posts", posts);
-            response.put("totalElements", posts.size());
+            PostListResponse result = postService.getPostsByAuthor(currentUser.getId(), cursor, pageSize(size));
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(result.withTotalElements(postService.getPostCountByAuthor(currentUser.getId())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", "내 게시글을 불러오는 중 오류가 발생했습니다");
-            return ResponseEntity.internalServerError().body(errorResponse);
+            return ResponseEntity.internalServerError().body(new ErrorResponse("내 게시글을 불러오는 중 오류가 발생했습니다"));
         }
     }
+    
+    // ETag에 넣을 커서 값
+    // 클라이언트가 보낸 문자열 대신 해석한 (created_at, id)를 쓰므로 따옴표나 제어 문자가 헤더에 들어가지 않음
+    private static String cursorKey(String cursor) {
+        if (cursor.isBlank()) {
+            return "first";
+        }
+        PostCursor after = PostCursor.decode(cursor);
+        return after.getCreatedAt() + "-" + after.getId();
+    }
+    
+    // 페이지 크기는 1~100으로 제한 (0이나 음수, 과도한 크기 요청 방지)
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, 100));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.example.loginbackend.controller;
+
+import com.example.loginbackend.entity.AuthorPropagationJob;
+import com.example.loginbackend.entity.User;
+import com.example.loginbackend.service.AuthorPropagationService;
+import com.example.loginbackend.service.JwtService;
+import com.example.loginbackend.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/users")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
+public class UserController {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AuthorPropagationService authorPropagationService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    // 내 정보 수정 (이름)
+    // 게시글에 복사된 작성자 이름은 백그라운드에서 반영되며 진행 상황은 /users/me/author-propagation 으로 확인
+    // 토큰 클레임 인증 모드에서는 기존 토큰이 무효화되므로 새 토큰(token)을 함께 응답
+    @PutMapping("/me")
+    public ResponseEntity<Map<String, Object>> updateMe(@RequestBody Map<String, String> request,
+                                                        Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof User)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        String name = request.get("name") != null ? request.get("name").trim() : null;
+        if (name == null || name.length() < 2 || name.length() > 50) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "이름은 2자 이상 50자 이하여야 합니다");
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        try {
+            Long userId = ((User) authentication.getPrincipal()).getId();
+            Optional<User> current = userService.findById(userId);
+            if (current.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+
+            // 캐시에 공유된 인스턴스는 커밋 전까지 그대로 두고 복사본을 수정
+            User user = new User(current.get());
+            user.setName(name);
+            boolean tokensRevoked = userService.updateUser(user);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("id", user.getId());
+            response.put("email", user.getEmail());
+            response.put("name", user.getName());
+            if (tokensRevoked) {
+                userService.findById(userId).ifPresent(updated -> response.put("token", jwtService.generateToken(updated)));
+            }
+            response.put("authorPropagation", authorPropagationService.findLatest(userId).map(UserController::toProgress).orElse(null));
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "사용자 정보 수정 중 오류가 발생했습니다: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(errorResponse);
+        }
+    }
+
+    // 작성자 정보 반영 진행 상황 (가장 최근 작업)
+    @GetMapping("/me/author-propagation")
+    public ResponseEntity<Map<String, Object>> getAuthorPropagation(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof User)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        Long userId = ((User) authentication.getPrincipal()).getId();
+        return authorPropagationService.findLatest(userId)
+                .map(job -> ResponseEntity.ok(toProgress(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static Map<String, Object> toProgress(AuthorPropagationJob job) {
+        Map<String, Object> progress = new HashMap<>();
+        progress.put("jobId", job.getId());
+        progress.put("status", job.getStatus().name());
+        progress.put("authorName", job.getAuthorName());
+        progress.put("processedRows", job.getProcessedRows());
+        progress.put("totalRows", job.getTotalRows());
+        progress.put("createdAt", job.getCreatedAt());
+        progress.put("completedAt", job.getCompletedAt());
+        return progress;
+    }
+}
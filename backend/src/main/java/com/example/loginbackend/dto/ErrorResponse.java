@@ -0,0 +1,16 @@
+package com.example.loginbackend.dto;
+
+/**
+ * 오류 응답 (불변)
+ */
+public final class ErrorResponse {
+
+    private final String error;
+
+    public ErrorResponse(String error) {
+        this.error = error;
+    }
+
+    // Getters
+    public String getError() { return error; }
+}
@@ -0,0 +1,27 @@
+package com.example.loginbackend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 게시글 상세/작성/수정 응답 (불변)
+ * message는 작성/수정 응답에만 포함됩니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class PostDetailResponse {
+
+    private final PostResponse post;
+    private final String message;
+
+    public PostDetailResponse(PostResponse post) {
+        this(post, null);
+    }
+
+    public PostDetailResponse(PostResponse post, String message) {
+        this.post = post;
+        this.message = message;
+    }
+
+    // Getters
+    public PostResponse getPost() { return post; }
+    public String getMessage() { return message; }
+}
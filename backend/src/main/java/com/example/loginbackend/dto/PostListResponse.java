@@ -0,0 +1,199 @@
+package com.example.loginbackend.dto;
+
+import com.example.loginbackend.entity.Post;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 게시글 목록/검색 응답 (불변)
+ * 목록 행(PostSummaryRows)을 PostResponse로 바꾸지 않고 JsonGenerator로 바로 씁니다.
+ * 목록 행의 content/updatedAt은 이전 응답(PostResponse.fromSummary)과 같이 항상 null입니다.
+ */
+@JsonSerialize(using = PostListResponse.Serializer.class)
+public final class PostListResponse {
+
+    private final PostSummaryRows posts;
+    private final Integer currentPage;
+    private final Integer totalPages;
+    private final Long totalElements;
+    private final boolean hasNext;
+    private final Boolean hasPrevious;
+    private final boolean cursorPaged;
+    private final String nextCursor;
+    private final String keyword;
+
+    private PostListResponse(PostSummaryRows posts, Integer currentPage, Integer totalPages, Long totalElements,
+                             boolean hasNext, Boolean hasPrevious, boolean cursorPaged, String nextCursor, String keyword) {
+        this.posts = posts;
+        this.currentPage = currentPage;
+        this.totalPages = totalPages;
+        this.totalElements = totalElements;
+        this.hasNext = hasNext;
+        this.hasPrevious = hasPrevious;
+        this.cursorPaged = cursorPaged;
+        this.nextCursor = nextCursor;
+        this.keyword = keyword;
+    }
+
+    // 페이지 번호 방식 (전체 건수 포함)
+    public static PostListResponse page(PostSummaryRows posts, int currentPage, int totalPages, long totalElements) {
+        return new PostListResponse(posts, currentPage, totalPages, totalElements,
+                currentPage < totalPages - 1, currentPage > 0, false, null, null);
+    }
+
+    // 페이지 번호 방식 (전체 건수 없이 다음 페이지 여부만)
+    public static PostListResponse slice(PostSummaryRows posts, int currentPage, boolean hasNext) {
+        return new PostListResponse(posts, currentPage, null, null, hasNext, currentPage > 0, false, null, null);
+    }
+
+    // 커서 방식 (nextCursor는 마지막 페이지면 null로 응답)
+    public static PostListResponse cursor(PostSummaryRows posts, String nextCursor, boolean hasNext) {
+        return new PostListResponse(posts, null, null, null, hasNext, null, true, nextCursor, null);
+    }
+
+    // 검색 결과 (페이지 번호 방식 + 검색어)
+    public static PostListResponse search(PostSummaryRows posts, int currentPage, int totalPages, long totalElements,
+                                          String keyword) {
+        return new PostListResponse(posts, currentPage, totalPages, totalElements,
+                currentPage < totalPages - 1, currentPage > 0, false, null, keyword);
+    }
+
+    // 전체 건수를 덧붙인 응답
+    public PostListResponse withTotalElements(long totalElements) {
+        return new PostListResponse(posts, currentPage, totalPages, totalElements,
+                hasNext, hasPrevious, cursorPaged, nextCursor, keyword);
+    }
+
+    // Getters
+    public PostSummaryRows getPosts() { return posts; }
+    public Integer getCurrentPage() { return currentPage; }
+    public Integer getTotalPages() { return totalPages; }
+    public Long getTotalElements() { return totalElements; }
+    public boolean isHasNext() { return hasNext; }
+    public Boolean getHasPrevious() { return hasPrevious; }
+    public String getNextCursor() { return nextCursor; }
+    public String getKeyword() { return keyword; }
+
+    // 목록 행 하나를 요약 필드만 씀 (PostResponse와 같은 필드 순서)
+    public static void writeSummary(JsonGenerator json, Post post) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", post.getId());
+        json.writeStringField("title", post.getTitle());
+        json.writeNullField("content");
+        json.writeStringField("excerpt", post.getExcerpt());
+        json.writeStringField("authorName", post.getAuthorName());
+        json.writeStringField("authorEmail", post.getAuthorEmail());
+        json.writeStringField("createdAt", toText(post.getCreatedAt()));
+        json.writeNullField("updatedAt");
+        if (post.getViewCount() != null) {
+            json.writeNumberField("viewCount", post.getViewCount());
+        } else {
+            json.writeNullField("viewCount");
+        }
+        json.writeEndObject();
+    }
+
+    /**
+     * 날짜/시각 값을 문자열 객체 없이 씀 (toText와 같은 형식, buffer는 32자 이상)
+     * 0~9999년 밖의 값은 DateTimeFormatter로 씁니다.
+     */
+    public static void writeDateTime(JsonGenerator json, long epochSecond, int nano, char[] buffer) throws IOException {
+        long days = Math.floorDiv(epochSecond, 86_400L);
+        int secondOfDay = (int) Math.floorMod(epochSecond, 86_400L);
+
+        // 1970-01-01 기준 일수 → 연/월/일 (그레고리력, 3월 시작 연도로 계산)
+        long z = days + 719_468L;
+        long era = Math.floorDiv(z, 146_097L);
+        int dayOfEra = (int) (z - era * 146_097L);
+        int yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            json.writeString(toText(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC)));
+            return;
+        }
+
+        int length = 0;
+        length = digits(buffer, length, (int) year, 4);
+        buffer[length++] = '-';
+        length = digits(buffer, length, month, 2);
+        buffer[length++] = '-';
+        length = digits(buffer, length, day, 2);
+        buffer[length++] = 'T';
+        length = digits(buffer, length, secondOfDay / 3_600, 2);
+        buffer[length++] = ':';
+        length = digits(buffer, length, secondOfDay / 60 % 60, 2);
+        buffer[length++] = ':';
+        length = digits(buffer, length, secondOfDay % 60, 2);
+        if (nano > 0) {
+            // 끝의 0은 생략 (ISO_LOCAL_DATE_TIME과 같음)
+            int fractionDigits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                fractionDigits--;
+            }
+            buffer[length++] = '.';
+            length = digits(buffer, length, nano, fractionDigits);
+        }
+        json.writeString(buffer, 0, length);
+    }
+
+    // value를 width 자리(앞을 0으로 채움)로 씀
+    private static int digits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + width;
+    }
+
+    // 스프링 부트 기본 LocalDateTime 직렬화와 같은 형식
+    private static String toText(LocalDateTime dateTime) {
+        return dateTime != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime) : null;
+    }
+
+    public static class Serializer extends StdSerializer<PostListResponse> {
+
+        public Serializer() {
+            super(PostListResponse.class);
+        }
+
+        @Override
+        public void serialize(PostListResponse value, JsonGenerator json, SerializerProvider provider) throws IOException {
+            json.writeStartObject();
+            json.writeArrayFieldStart("posts");
+            value.posts.writeRows(json);
+            json.writeEndArray();
+            if (value.currentPage != null) {
+                json.writeNumberField("currentPage", value.currentPage);
+            }
+            if (value.totalPages != null) {
+                json.writeNumberField("totalPages", value.totalPages);
+            }
+            if (value.totalElements != null) {
+                json.writeNumberField("totalElements", value.totalElements);
+            }
+            json.writeBooleanField("hasNext", value.hasNext);
+            if (value.hasPrevious != null) {
+                json.writeBooleanField("hasPrevious", value.hasPrevious);
+            }
+            if (value.cursorPaged) {
+                json.writeStringField("nextCursor", value.nextCursor);
+            }
+            if (value.keyword != null) {
+                json.writeStringField("keyword", value.keyword);
+            }
+            json.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.loginbackend.dto;
+
+import com.example.loginbackend.entity.Post;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DB에서 읽은 Post 목록을 감싼 목록 행 묶음
+ */
+final class PostListRows implements PostSummaryRows {
+
+    private final List<Post> posts;
+
+    PostListRows(List<Post> posts) {
+        this.posts = Collections.unmodifiableList(posts);
+    }
+
+    @Override
+    public int size() {
+        return posts.size();
+    }
+
+    @Override
+    public long getId(int row) {
+        return posts.get(row).getId();
+    }
+
+    @Override
+    public LocalDateTime getCreatedAt(int row) {
+        return posts.get(row).getCreatedAt();
+    }
+
+    @Override
+    public PostSummaryRows limit(int maxRows) {
+        return maxRows >= posts.size() ? this : new PostListRows(posts.subList(0, maxRows));
+    }
+
+    @Override
+    public void writeRows(JsonGenerator json) throws IOException {
+        for (Post post : posts) {
+            PostListResponse.writeSummary(json, post);
+        }
+    }
+}
@@ -1,20 +1,25 @@
 package com.example.loginbackend.dto;
 
 import com.example.loginbackend.entity.Post;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDateTime;
-import java.util.List;
 
 public class PostResponse {
     
     private Long id;
     private String title;
     private String content;
+    private String excerpt;
     private String authorName;
     private String authorEmail;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Integer viewCount;
     
+    // ETag/Last-Modified 계산용 (응답 본문에는 포함하지 않음)
+    @JsonIgnore
+    private LocalDateTime lastModified;
+    
     // Constructors
     public PostResponse() {}
     
@@ -22,11 +27,13 @@ public class PostResponse {
         this.id = post.getId();
         this.title = post.getTitle();
         this.content = post.getContent();
+        this.excerpt = post.getExcerpt();
         this.authorName = post.getAuthorName();
         this.authorEmail = post.getAuthorEmail();
         this.createdAt = post.getCreatedAt();
         this.updatedAt = post.getUpdatedAt();
         this.viewCount = post.getViewCount();
+        this.lastModified = post.getLastModified();
     }
     
     // 목록용 생성자 (내용 제외)
@@ -45,8 +52,17 @@ public class PostResponse {
         return new PostResponse(post);
     }
     
+    // 아직 DB에 반영되지 않은 조회수를 더한 응답
+    public static PostResponse from(Post post, long pendingViewCount) {
+        PostResponse response = new PostResponse(post);
+        int viewCount = post.getViewCount() != null ? post.getViewCount() : 0;
+        response.viewCount = (int) Math.min(Integer.MAX_VALUE, viewCount + pendingViewCount);
+        return response;
+    }
+    
+    // 목록 행 (PostListResponse가 JsonGenerator로 쓰는 필드와 같음)
     public static PostResponse fromSummary(Post post) {
-        return new PostResponse(
+        PostResponse response = new PostResponse(
             post.getId(),
             post.getTitle(),
             post.getAuthorName(),
@@ -54,27 +70,8 @@ public class PostResponse {
             post.getCreatedAt(),
             post.getViewCount()
         );
-    }
-    
-    // 페이징 결과를 위한 내부 클래스
-    public static class PagedResult {
-        private List<PostResponse> posts;
-        private int currentPage;
-        private int totalPages;
-        private long totalCount;
-        
-        public PagedResult(List<PostResponse> posts, int currentPage, int totalPages, long totalCount) {
-            this.posts = posts;
-            this.currentPage = currentPage;
-            this.totalPages = totalPages;
-            this.totalCount = totalCount;
-        }
-        
-        // Getters
-        public List<PostResponse> getPosts() { return posts; }
-        public int getCurrentPage() { return currentPage; }
-        public int getTotalPages() { return totalPages; }
-        public long getTotalCount() { return totalCount; }
+        response.excerpt = post.getExcerpt();
+        return response;
     }
     
     // Getters and Setters
@@ -102,6 +99,14 @@ public class PostResponse {
         this.content = content;
     }
     
+    public String getExcerpt() {
+        return excerpt;
+    }
+    
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+    
     public String getAuthorName() {
         return authorName;
     }
@@ -141,4 +146,9 @@ public class PostResponse {
     public void setViewCount(Integer viewCount) {
         this.viewCount = viewCount;
     }
+    
+    @JsonIgnore
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.loginbackend.dto;
+
+import com.example.loginbackend.entity.Post;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 목록 행 묶음 (불변)
+ * PostListResponse가 행마다 객체를 만들지 않고 JsonGenerator로 바로 쓸 수 있도록
+ * DB에서 읽은 Post 목록과 메모리 목록 저장소의 페이지를 같은 방식으로 다룹니다.
+ */
+public interface PostSummaryRows {
+
+    int size();
+
+    long getId(int row);
+
+    // 다음 페이지 커서 생성용
+    LocalDateTime getCreatedAt(int row);
+
+    // 앞에서부터 maxRows 행만 남긴 묶음
+    PostSummaryRows limit(int maxRows);
+
+    // 모든 행을 목록 행 형식(PostListResponse.writeSummary와 같은 필드)으로 씀
+    void writeRows(JsonGenerator json) throws IOException;
+
+    static PostSummaryRows of(List<Post> posts) {
+        return new PostListRows(posts);
+    }
+}
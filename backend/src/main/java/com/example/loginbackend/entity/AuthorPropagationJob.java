@@ -0,0 +1,140 @@
+package com.example.loginbackend.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작성자 정보 반영 작업
+ * 사용자 이름이 바뀌면 생성되며, 해당 사용자의 게시글에 복사된 author_name/author_email을
+ * 최신순 커서(cursorCreatedAt, cursorId)를 따라 조금씩 고쳐 씁니다.
+ */
+public class AuthorPropagationJob {
+    
+    private Long id;
+    private Long authorId;
+    private String authorName;
+    private String authorEmail;
+    private Status status = Status.PENDING;
+    
+    // 마지막으로 처리한 게시글 위치 (null이면 처음부터)
+    private LocalDateTime cursorCreatedAt;
+    private Long cursorId;
+    
+    private long processedRows;
+    private long totalRows;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+    
+    // Constructors
+    public AuthorPropagationJob() {}
+    
+    public AuthorPropagationJob(Long authorId, String authorName, String authorEmail, long totalRows) {
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.authorEmail = authorEmail;
+        this.totalRows = totalRows;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getAuthorId() {
+        return authorId;
+    }
+    
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+    
+    public String getAuthorName() {
+        return authorName;
+    }
+    
+    public void setAuthorName(String authorName) {
+        this.authorName = authorName;
+    }
+    
+    public String getAuthorEmail() {
+        return authorEmail;
+    }
+    
+    public void setAuthorEmail(String authorEmail) {
+        this.authorEmail = authorEmail;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+    
+    public LocalDateTime getCursorCreatedAt() {
+        return cursorCreatedAt;
+    }
+    
+    public void setCursorCreatedAt(LocalDateTime cursorCreatedAt) {
+        this.cursorCreatedAt = cursorCreatedAt;
+    }
+    
+    public Long getCursorId() {
+        return cursorId;
+    }
+    
+    public void setCursorId(Long cursorId) {
+        this.cursorId = cursorId;
+    }
+    
+    public long getProcessedRows() {
+        return processedRows;
+    }
+    
+    public void setProcessedRows(long processedRows) {
+        this.processedRows = processedRows;
+    }
+    
+    public long getTotalRows() {
+        return totalRows;
+    }
+    
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+    
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+    
+    public enum Status {
+        PENDING,    // 대기 또는 진행 중
+        DONE,       // 완료
+        SUPERSEDED  // 같은 작성자의 더 최근 작업으로 대체됨
+    }
+}
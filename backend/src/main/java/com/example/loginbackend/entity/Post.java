@@ -6,6 +6,9 @@ import java.time.LocalDateTime;
 
 public class Post {
     
+    // 목록 미리보기용 요약 최대 길이
+    public static final int EXCERPT_MAX_LENGTH = 150;
+    
     private Long id;
     
     @NotBlank(message = "제목은 필수입니다")
@@ -15,6 +18,9 @@ public class Post {
     @NotBlank(message = "내용은 필수입니다")
     private String content;
     
+    // 목록 조회 시 content 대신 사용하는 미리 계산된 요약 (저장/수정 시 갱신)
+    private String excerpt;
+    
     // MyBatis에서는 관계 매핑 대신 직접 필드로 관리
     private Long authorId;
     private String authorName;
@@ -22,6 +28,10 @@ public class Post {
     
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // 작성자 정보(author_name, author_email) 반영 시각 (상세 조회 ETag/Last-Modified용)
+    private LocalDateTime authorUpdatedAt;
+    // 행이 마지막으로 바뀐 시각 (목록 저장소 증분 동기화용)
+    private LocalDateTime changedAt;
     private Integer viewCount = 0;
     
     // Constructors
@@ -60,6 +70,14 @@ public class Post {
         this.content = content;
     }
     
+    public String getExcerpt() {
+        return excerpt;
+    }
+    
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+    
     public Long getAuthorId() {
         return authorId;
     }
@@ -100,6 +118,30 @@ public class Post {
         this.updatedAt = updatedAt;
     }
     
+    public LocalDateTime getAuthorUpdatedAt() {
+        return authorUpdatedAt;
+    }
+    
+    public void setAuthorUpdatedAt(LocalDateTime authorUpdatedAt) {
+        this.authorUpdatedAt = authorUpdatedAt;
+    }
+    
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+    
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+    
+    // 마지막 변경 시각 (수정 시각과 작성자 정보 반영 시각 중 늦은 쪽)
+    public LocalDateTime getLastModified() {
+        if (authorUpdatedAt != null && (updatedAt == null || authorUpdatedAt.isAfter(updatedAt))) {
+            return authorUpdatedAt;
+        }
+        return updatedAt;
+    }
+    
     public Integer getViewCount() {
         return viewCount;
     }
@@ -112,4 +154,20 @@ public class Post {
     public void incrementViewCount() {
         this.viewCount++;
     }
+    
+    // 본문으로 목록용 요약 생성 (연속 공백/줄바꿈을 하나로 줄이고 최대 길이로 자름)
+    public static String createExcerpt(String content) {
+        if (content == null) {
+            return null;
+        }
+        String normalized = content.replaceAll("\\s+", " ").trim();
+        if (normalized.length() <= EXCERPT_MAX_LENGTH) {
+            return normalized;
+        }
+        int end = EXCERPT_MAX_LENGTH - 1;
+        if (Character.isHighSurrogate(normalized.charAt(end - 1))) {
+            end--;
+        }
+        return normalized.substring(0, end) + "…";
+    }
 }
\ No newline at end of file
@@ -31,6 +31,9 @@ public class User implements UserDetails {
     private LocalDateTime updatedAt;
     private Role role = Role.USER;
     
+    // 토큰 버전 (증가시키면 이전에 발급된 토큰이 모두 무효화됨)
+    private Integer tokenVersion = 0;
+    
     // Constructors
     public User() {}
     
@@ -45,6 +48,18 @@ public class User implements UserDetails {
         this.name = name;
     }
     
+    // 복사본 (캐시에 공유된 인스턴스를 직접 고치지 않도록 수정 전에 사용)
+    public User(User other) {
+        this.id = other.id;
+        this.email = other.email;
+        this.password = other.password;
+        this.name = other.name;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.role = other.role;
+        this.tokenVersion = other.tokenVersion;
+    }
+    
     // UserDetails implementation
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -125,6 +140,14 @@ public class User implements UserDetails {
         this.role = role;
     }
     
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+    
+    public void setTokenVersion(Integer tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+    
     public String getName() {
         return name;
     }
@@ -0,0 +1,45 @@
+package com.example.loginbackend.mapper;
+
+import com.example.loginbackend.entity.AuthorPropagationJob;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface AuthorPropagationJobMapper {
+    
+    /**
+     * 작업 저장
+     */
+    void save(AuthorPropagationJob job);
+    
+    /**
+     * 작성자의 대기 중인 작업을 대체됨으로 표시 (새 작업이 처음부터 다시 반영하므로)
+     */
+    int supersedePending(@Param("authorId") Long authorId);
+    
+    /**
+     * 가장 오래된 대기 중인 작업 조회
+     */
+    Optional<AuthorPropagationJob> findNextPending();
+    
+    /**
+     * 작성자의 가장 최근 작업 조회
+     */
+    Optional<AuthorPropagationJob> findLatestByAuthorId(@Param("authorId") Long authorId);
+    
+    /**
+     * since(포함) 이후 등록된 작업 조회 (id 순, since가 null이면 전체)
+     */
+    List<AuthorPropagationJob> findCreatedSince(@Param("since") LocalDateTime since);
+    
+    /**
+     * 진행 상황 저장 (대기 중이고 processed_rows가 previousProcessedRows인 작업만, 반영된 행 수 반환)
+     */
+    int updateProgress(@Param("job") AuthorPropagationJob job,
+                       @Param("previousProcessedRows") long previousProcessedRows);
+
+}
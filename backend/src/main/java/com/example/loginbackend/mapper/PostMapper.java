@@ -3,7 +3,10 @@ package com.example.loginbackend.mapper;
 import com.example.loginbackend.entity.Post;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +18,14 @@ public interface PostMapper {
      */
     List<Post> findAll(@Param("offset") int offset, @Param("size") int size);
     
+    /**
+     * 게시글 목록 조회 (키셋 페이징)
+     * 커서가 없으면 첫 페이지, 있으면 커서 (createdAt, id) 다음 게시글부터 조회
+     */
+    List<Post> findAllAfter(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                            @Param("cursorId") Long cursorId,
+                            @Param("size") int size);
+    
     /**
      * 전체 게시글 수 조회
      */
@@ -32,16 +43,69 @@ public interface PostMapper {
      */
     long countByKeyword(@Param("keyword") String keyword);
     
+    /**
+     * ID 목록으로 게시글 조회 (순서 보장 안 됨)
+     */
+    List<Post> findByIds(@Param("ids") List<Long> ids);
+    
+    /**
+     * 검색 색인 구성을 위한 전체 게시글 순회 (id, title, content만 조회)
+     */
+    void scanForSearchIndex(ResultHandler<Post> handler);
+    
+    /**
+     * 목록 저장소 적재를 위한 최신순 순회 (content 제외, 최대 limit건)
+     */
+    void scanSummariesNewestFirst(@Param("limit") int limit, ResultHandler<Post> handler);
+    
+    /**
+     * 목록 저장소 증분 동기화: since(포함) 이후 바뀐 게시글의 id, changed_at (since가 null이면 전체)
+     */
+    List<Post> findChangesSince(@Param("since") LocalDateTime since);
+    
+    /**
+     * 목록 저장소 증분 동기화: since(포함) 이후 삭제된 게시글 ID (since가 null이면 전체)
+     */
+    List<Long> findDeletedIdsSince(@Param("since") LocalDateTime since);
+    
+    /**
+     * DB 현재 시각 (증분 동기화 기준 시각)
+     */
+    LocalDateTime findCurrentTime();
+    
+    /**
+     * before 이전의 삭제 기록 정리
+     */
+    int purgeDeletionsBefore(@Param("before") LocalDateTime before);
+    
+    /**
+     * 게시글 내보내기용 커서 (작성 시각 순, 조건은 모두 선택)
+     * 트랜잭션 안에서만 읽을 수 있으며 다 읽거나 닫으면 쿼리가 끝납니다.
+     */
+    Cursor<Post> streamForExport(@Param("authorId") Long authorId,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to);
+    
     /**
      * ID로 게시글 조회
      */
     Optional<Post> findById(@Param("id") Long id);
     
+    /**
+     * 게시글 마지막 변경 시각 조회 (수정 시각과 작성자 정보 반영 시각 중 늦은 쪽, 없으면 null)
+     */
+    LocalDateTime findLastModifiedById(@Param("id") Long id);
+    
     /**
      * 게시글 저장
      */
     void save(Post post);
     
+    /**
+     * 게시글 일괄 가져오기용 저장 (작성 시각/조회수 지정, 배치 실행 후 생성된 id를 채움)
+     */
+    void insertForImport(Post post);
+    
     /**
      * 게시글 업데이트
      */
@@ -52,13 +116,42 @@ public interface PostMapper {
      */
     void deleteById(@Param("id") Long id);
     
+    /**
+     * 게시글 삭제 기록 (다른 인스턴스의 목록 저장소 동기화용)
+     */
+    void recordDeletion(@Param("id") Long id);
+    
     /**
      * 조회수 증가
      */
     void incrementViewCount(@Param("id") Long id);
     
     /**
-     * 작성자 ID로 게시글 목록 조회
+     * 작성자별 게시글 목록 조회 (키셋 페이징)
+     * 커서가 없으면 최신 게시글부터, 있으면 커서 (createdAt, id) 다음 게시글부터 조회
+     */
+    List<Post> findByAuthorAfter(@Param("authorId") Long authorId,
+                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                 @Param("cursorId") Long cursorId,
+                                 @Param("size") int size);
+    
+    /**
+     * 작성자 정보 반영 대상 게시글 조회 (id, createdAt만 채움, 최신순 키셋)
+     */
+    List<Post> findAuthorChunk(@Param("authorId") Long authorId,
+                               @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                               @Param("cursorId") Long cursorId,
+                               @Param("size") int size);
+    
+    /**
+     * 게시글에 복사된 작성자 이름/이메일 갱신
+     */
+    int updateAuthorFields(@Param("ids") List<Long> ids,
+                           @Param("authorName") String authorName,
+                           @Param("authorEmail") String authorEmail);
+    
+    /**
+     * 작성자별 게시글 수 조회
      */
-    List<Post> findByAuthorId(@Param("authorId") Long authorId);
+    long countByAuthorId(@Param("authorId") Long authorId);
 }
\ No newline at end of file
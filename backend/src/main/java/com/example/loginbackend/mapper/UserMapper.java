@@ -4,6 +4,8 @@ import com.example.loginbackend.entity.User;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Mapper
@@ -34,6 +36,21 @@ public interface UserMapper {
      */
     void update(User user);
     
+    /**
+     * 토큰 버전 증가
+     */
+    void incrementTokenVersion(@Param("id") Long id);
+    
+    /**
+     * 토큰 버전 조회 (since 이후 변경분, null이면 버전이 증가된 사용자 전체)
+     */
+    List<User> findTokenVersions(@Param("since") LocalDateTime since);
+    
+    /**
+     * 가장 최근 사용자 변경 시각 조회
+     */
+    LocalDateTime findLatestUpdatedAt();
+    
     /**
      * 사용자 삭제
      */
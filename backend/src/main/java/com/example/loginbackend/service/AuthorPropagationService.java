@@ -0,0 +1,192 @@
+package com.example.loginbackend.service;
+
+import com.example.loginbackend.entity.AuthorPropagationJob;
+import com.example.loginbackend.entity.Post;
+import com.example.loginbackend.mapper.AuthorPropagationJobMapper;
+import com.example.loginbackend.mapper.PostMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글에 복사된 작성자 정보(author_name, author_email) 반영
+ * 사용자 이름이 바뀌면 작업을 DB에 남기고, 백그라운드에서 chunk-size 건씩 짧은 트랜잭션으로 고쳐 씁니다.
+ * 한 번에 잠그는 행은 chunk 하나뿐이고 interval-ms 마다 chunks-per-run 개만 처리하므로 목록 조회를 막지 않으며,
+ * 진행 위치를 chunk와 같은 트랜잭션에 저장하므로 재기동 후에도 이어서 처리합니다.
+ * 메모리 목록 저장소(PostSummaryStore)는 작업 생성 커밋 직후 바로 새 이름으로 바뀝니다.
+ */
+@Service
+public class AuthorPropagationService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthorPropagationService.class);
+
+    @Autowired
+    private AuthorPropagationJobMapper jobMapper;
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @Autowired
+    private PostSummaryStore postSummaryStore;
+
+    @Autowired
+    private PostWriteVersion postWriteVersion;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${users.author-propagation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${users.author-propagation.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${users.author-propagation.chunks-per-run:1}")
+    private int chunksPerRun;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter updatedRows;
+    private Counter completedJobs;
+
+    // DB 초기화(마이그레이션)가 끝나기 전에는 작업 테이블을 읽지 않음
+    private volatile boolean ready = false;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        updatedRows = Counter.builder("users.author.propagation.rows")
+                .description("작성자 정보가 갱신된 게시글 수")
+                .register(meterRegistry);
+        completedJobs = Counter.builder("users.author.propagation.jobs")
+                .description("완료된 작성자 정보 반영 작업 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void start() {
+        ready = true;
+    }
+
+    /**
+     * 작성자 정보 반영 작업 등록 (사용자 수정과 같은 트랜잭션에서 호출)
+     * 같은 작성자의 대기 중인 작업은 새 작업이 처음부터 다시 반영하므로 대체됨으로 표시합니다.
+     */
+    public AuthorPropagationJob enqueue(Long authorId, String authorName, String authorEmail) {
+        jobMapper.supersedePending(authorId);
+
+        AuthorPropagationJob job = new AuthorPropagationJob(authorId, authorName, authorEmail,
+                postMapper.countByAuthorId(authorId));
+        jobMapper.save(job);
+
+        afterCommit(() -> postSummaryStore.renameAuthor(authorId, authorName, authorEmail));
+        return job;
+    }
+
+    // 작성자의 가장 최근 작업 (진행 상황 확인용)
+    public Optional<AuthorPropagationJob> findLatest(Long authorId) {
+        return jobMapper.findLatestByAuthorId(authorId);
+    }
+
+    @Scheduled(fixedDelayString = "${users.author-propagation.interval-ms:200}")
+    public void propagate() {
+        if (!enabled || !ready) {
+            return;
+        }
+        try {
+            for (int i = 0; i < chunksPerRun; i++) {
+                if (!propagateChunk()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            // 실패한 chunk는 롤백되어 진행 위치가 그대로이므로 다음 주기에 다시 시도
+            log.warn("작성자 정보 반영 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    // 가장 오래된 대기 작업의 다음 chunk 하나를 처리, 처리할 작업이 없으면 false
+    private boolean propagateChunk() {
+        Boolean processed = transactionTemplate.execute(status -> {
+            Optional<AuthorPropagationJob> next = jobMapper.findNextPending();
+            if (next.isEmpty()) {
+                return false;
+            }
+            AuthorPropagationJob job = next.get();
+            long previousProcessedRows = job.getProcessedRows();
+
+            List<Post> chunk = postMapper.findAuthorChunk(job.getAuthorId(),
+                    job.getCursorCreatedAt(), job.getCursorId(), chunkSize);
+            int updated = 0;
+            if (!chunk.isEmpty()) {
+                List<Long> ids = chunk.stream().map(Post::getId).collect(Collectors.toList());
+                updated = postMapper.updateAuthorFields(ids, job.getAuthorName(), job.getAuthorEmail());
+
+                Post last = chunk.get(chunk.size() - 1);
+                job.setCursorCreatedAt(last.getCreatedAt());
+                job.setCursorId(last.getId());
+                job.setProcessedRows(previousProcessedRows + chunk.size());
+            }
+            boolean done = chunk.size() < chunkSize;
+            if (done) {
+                job.setStatus(AuthorPropagationJob.Status.DONE);
+                job.setCompletedAt(LocalDateTime.now());
+            }
+
+            // 그 사이 새 작업으로 대체되었거나 다른 인스턴스가 먼저 처리했으면 이번 chunk는 버림
+            if (jobMapper.updateProgress(job, previousProcessedRows) == 0) {
+                status.setRollbackOnly();
+                return true;
+            }
+
+            int changed = updated;
+            afterCommit(() -> {
+                updatedRows.increment(changed);
+                if (done) {
+                    completedJobs.increment();
+                }
+                if (changed > 0) {
+                    postWriteVersion.bump();
+                }
+            });
+            return true;
+        });
+        return Boolean.TRUE.equals(processed);
+    }
+
+    // 커밋된 뒤에만 메모리 상태에 반영 (롤백된 변경이 남지 않도록)
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
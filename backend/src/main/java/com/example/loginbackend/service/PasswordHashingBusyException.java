@@ -0,0 +1,18 @@
+package com.example.loginbackend.service;
+
+/**
+ * 비밀번호 해시 실행기가 가득 차서 작업을 받을 수 없을 때 발생 (503 Service Unavailable)
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.loginbackend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시/검증 전용 실행기
+ * BCrypt 작업을 Tomcat 요청 스레드가 아닌 크기가 정해진 스레드 풀에서 실행해
+ * 로그인이 몰려도 게시글 조회 요청이 처리될 스레드가 남도록 합니다.
+ * 대기열까지 가득 차면 기다리지 않고 PasswordHashingBusyException을 던집니다 (503 응답).
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.password.executor.threads:0}")
+    private int threads;
+
+    @Value("${security.password.executor.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${security.password.executor.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private ThreadPoolExecutor threadPool;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        threadPool = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        // 대기열 길이, 처리/대기 시간, 거부 수를 executor.* 지표로 노출
+        executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "password.hashing");
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        threadPool.shutdown();
+        threadPool.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.loginbackend.service;
+
+import com.example.loginbackend.mapper.PostMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 건수 캐시
+ * 전체 건수는 메모리 카운터로 유지하고(생성/삭제 시 증감), 키워드별 건수는 짧은 시간 동안만 캐시합니다.
+ * 작성자별 건수는 처음 조회할 때 인덱스로 계산한 뒤 생성/삭제 시 증감합니다.
+ * 다른 인스턴스에서 발생한 변경은 주기적인 재동기화로 맞춥니다.
+ */
+@Component
+public class PostCountCache {
+
+    private static final long UNKNOWN = -1L;
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @Value("${posts.count.keyword-ttl-seconds:30}")
+    private long keywordTtlSeconds;
+
+    @Value("${posts.count.keyword-max-size:10000}")
+    private long keywordMaxSize;
+
+    private final AtomicLong totalCount = new AtomicLong(UNKNOWN);
+
+    @Value("${posts.count.author-ttl-seconds:300}")
+    private long authorTtlSeconds;
+
+    @Value("${posts.count.author-max-size:10000}")
+    private long authorMaxSize;
+
+    private Cache<String, Long> keywordCounts;
+
+    // 작성자별 게시글 수 (이 인스턴스의 생성/삭제는 바로 반영, 다른 인스턴스 변경은 만료 후 반영)
+    private Cache<Long, Long> authorCounts;
+
+    @PostConstruct
+    public void init() {
+        keywordCounts = Caffeine.newBuilder()
+                .maximumSize(keywordMaxSize)
+                .expireAfterWrite(keywordTtlSeconds, TimeUnit.SECONDS)
+                .build();
+        authorCounts = Caffeine.newBuilder()
+                .maximumSize(authorMaxSize)
+                .expireAfterWrite(authorTtlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    // 전체 게시글 수 (처음 한 번만 COUNT 실행)
+    public long getTotalCount() {
+        long count = totalCount.get();
+        if (count == UNKNOWN) {
+            count = postMapper.countAll();
+            totalCount.compareAndSet(UNKNOWN, count);
+        }
+        return count;
+    }
+
+    // 키워드 검색 결과 수 (짧은 시간 캐시)
+    public long getKeywordCount(String keyword) {
+        return keywordCounts.get(keyword, postMapper::countByKeyword);
+    }
+
+    // 작성자별 게시글 수 (없으면 인덱스로 COUNT 후 캐시)
+    public long getAuthorCount(Long authorId) {
+        return authorCounts.get(authorId, postMapper::countByAuthorId);
+    }
+
+    public void increment(Long authorId) {
+        totalCount.getAndUpdate(count -> count == UNKNOWN ? UNKNOWN : count + 1);
+        authorCounts.asMap().computeIfPresent(authorId, (id, count) -> count + 1);
+    }
+
+    public void decrement(Long authorId) {
+        totalCount.getAndUpdate(count -> count == UNKNOWN ? UNKNOWN : Math.max(0, count - 1));
+        authorCounts.asMap().computeIfPresent(authorId, (id, count) -> Math.max(0, count - 1));
+    }
+
+    // 일괄 변경 후 작성자별 건수를 다시 계산하도록 비움
+    public void invalidateAuthorCounts() {
+        authorCounts.invalidateAll();
+    }
+
+    // 다른 인스턴스의 변경이나 누락된 증감을 바로잡기 위한 주기적 재동기화
+    @Scheduled(fixedDelayString = "${posts.count.resync-interval-ms:60000}")
+    public void resync() {
+        if (totalCount.get() != UNKNOWN) {
+            totalCount.set(postMapper.countAll());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.loginbackend.service;
+
+/**
+ * 동시에 실행 중인 게시글 내보내기가 최대 개수에 도달했을 때 발생 (503 Service Unavailable)
+ */
+public class PostExportBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PostExportBusyException(long retryAfterSeconds) {
+        super("진행 중인 내보내기가 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.loginbackend.service;
+
+import com.example.loginbackend.entity.Post;
+import com.example.loginbackend.mapper.PostMapper;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 내보내기 (NDJSON / CSV)
+ * MyBatis Cursor로 한 행씩 읽어 바로 출력 스트림에 쓰므로 게시글 수와 관계없이 힙 사용량이 일정합니다.
+ * 클라이언트가 연결을 끊으면 쓰기에서 IOException이 발생하고, 커서와 트랜잭션이 닫히면서 쿼리도 중단됩니다.
+ * 내보내기는 끝날 때까지 DB 연결을 하나 점유하므로 동시 실행 수(max-concurrent)와 실행 시간(timeout-ms)을 제한합니다.
+ */
+@Service
+public class PostExportService {
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    // 이 건수마다 출력 버퍼를 비워 클라이언트가 행을 바로 받을 수 있게 함
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private static final String[] CSV_HEADER = {
+        "id", "title", "content", "author_id", "author_name", "author_email", "view_count", "created_at", "updated_at"
+    };
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Autowired
+    private PostMapper postMapper;
+
+    // DB 연결 풀(hikari maximum-pool-size)보다 충분히 작게 설정
+    @Value("${posts.export.max-concurrent:2}")
+    private int maxConcurrent;
+
+    @Value("${posts.export.timeout-ms:300000}")
+    private long timeoutMillis;
+
+    @Value("${posts.export.retry-after-seconds:30}")
+    private long retryAfterSeconds;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * 내보내기 실행 권한 획득 (기다리지 않고, 가득 차 있으면 PostExportBusyException)
+     * 획득한 경우 내보내기가 끝난 뒤 반드시 release()를 호출해야 합니다.
+     */
+    public void acquire() {
+        if (!permits.tryAcquire()) {
+            throw new PostExportBusyException(retryAfterSeconds);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    // 비동기 요청 제한 시간 (컨트롤러의 WebAsyncTask에도 같은 값을 사용)
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    // 제한 시간이 지나면 응답은 이미 끝났으므로 남은 행을 읽지 않고 중단 (커서와 트랜잭션을 닫아 DB 연결 반환)
+    @Transactional(readOnly = true)
+    public long export(Format format, Long authorId, LocalDateTime from, LocalDateTime to, OutputStream out)
+            throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try (Cursor<Post> cursor = postMapper.streamForExport(authorId, from, to)) {
+            return format == Format.CSV ? writeCsv(cursor, out, deadline) : writeNdjson(cursor, out, deadline);
+        }
+    }
+
+    private static void checkDeadline(long deadline) {
+        if (System.nanoTime() - deadline > 0) {
+            throw new IllegalStateException("내보내기 제한 시간을 초과했습니다");
+        }
+    }
+
+    private long writeNdjson(Cursor<Post> cursor, OutputStream out, long deadline) throws IOException {
+        long rows = 0;
+        JsonGenerator json = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+        json.setRootValueSeparator(null);
+        for (Post post : cursor) {
+            json.writeStartObject();
+            json.writeNumberField("id", post.getId());
+            json.writeStringField("title", post.getTitle());
+            json.writeStringField("content", post.getContent());
+            json.writeNumberField("authorId", post.getAuthorId());
+            json.writeStringField("authorName", post.getAuthorName());
+            json.writeStringField("authorEmail", post.getAuthorEmail());
+            json.writeNumberField("viewCount", post.getViewCount() != null ? post.getViewCount() : 0);
+            json.writeStringField("createdAt", toText(post.getCreatedAt()));
+            json.writeStringField("updatedAt", toText(post.getUpdatedAt()));
+            json.writeEndObject();
+            json.writeRaw('\n');
+            if (++rows % FLUSH_EVERY_ROWS == 0) {
+                json.flush();
+                checkDeadline(deadline);
+            }
+        }
+        json.flush();
+        return rows;
+    }
+
+    private long writeCsv(Cursor<Post> cursor, OutputStream out, long deadline) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        writer.write('\uFEFF');
+        writeCsvRow(writer, CSV_HEADER);
+        for (Post post : cursor) {
+            writeCsvRow(writer, new String[]{
+                String.valueOf(post.getId()),
+                post.getTitle(),
+                post.getContent(),
+                String.valueOf(post.getAuthorId()),
+                post.getAuthorName(),
+                post.getAuthorEmail(),
+                String.valueOf(post.getViewCount() != null ? post.getViewCount() : 0),
+                toText(post.getCreatedAt()),
+                toText(post.getUpdatedAt())
+            });
+            if (++rows % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+                checkDeadline(deadline);
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    // RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀
+    private static void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i] != null ? values[i] : "";
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String toText(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+}
@@ -0,0 +1,294 @@
+package com.example.loginbackend.service;
+
+import com.example.loginbackend.entity.Post;
+import com.example.loginbackend.entity.User;
+import com.example.loginbackend.mapper.PostMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시글 일괄 가져오기 (NDJSON)
+ * 한 줄에 게시글 하나씩 읽어 검증하고, ExecutorType.BATCH SqlSession으로 chunk 단위 트랜잭션에 나눠 저장합니다.
+ * 잘못된 줄은 오류로 기록하고 건너뛰며, chunk 저장이 실패하면 그 chunk만 한 건씩 다시 저장해 실패한 줄을 찾습니다.
+ * 배치 INSERT가 돌려준 ID로 커밋된 chunk만 메모리 색인/목록 저장소/건수에 바로 반영하므로 테이블 전체를 다시 읽지 않습니다.
+ */
+@Service
+public class PostImportService {
+
+    private static final int TITLE_MAX_LENGTH = 200;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private PostSummaryStore postSummaryStore;
+
+    @Autowired
+    private PostCountCache postCountCache;
+
+    @Autowired
+    private PostWriteVersion postWriteVersion;
+
+    @Value("${posts.import.chunk-size:1000}")
+    private int defaultChunkSize;
+
+    @Value("${posts.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PostMapper batchMapper;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        // 트랜잭션에 묶인 BATCH 세션: 커밋 직전에 모아 둔 INSERT를 한 번에 실행
+        batchMapper = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH).getMapper(PostMapper.class);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public ImportResult importPosts(InputStream body, User importer, Integer chunkSize) throws IOException {
+        int size = chunkSize != null ? Math.max(1, Math.min(chunkSize, 10_000)) : defaultChunkSize;
+        ImportResult result = new ImportResult(maxReportedErrors);
+        Map<String, Optional<User>> authors = new HashMap<>();
+        List<Post> chunk = new ArrayList<>(size);
+        List<Integer> chunkLines = new ArrayList<>(size);
+        long started = System.nanoTime();
+        boolean[] missingKeys = {false};
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    chunk.add(parse(line, importer, authors));
+                    chunkLines.add(lineNumber);
+                } catch (IllegalArgumentException e) {
+                    result.addError(lineNumber, e.getMessage());
+                }
+                if (chunk.size() == size) {
+                    insertChunk(chunk, chunkLines, result, missingKeys);
+                    chunk.clear();
+                    chunkLines.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                insertChunk(chunk, chunkLines, result, missingKeys);
+            }
+        } finally {
+            if (missingKeys[0]) {
+                refreshReadModels();
+            }
+            // 처리량에는 메모리 읽기 모델 반영 시간까지 포함
+            result.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        }
+        return result;
+    }
+
+    private void insertChunk(List<Post> chunk, List<Integer> lines, ImportResult result, boolean[] missingKeys) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> chunk.forEach(batchMapper::insertForImport));
+            result.addImported(chunk.size());
+            applyToReadModels(chunk, missingKeys);
+        } catch (RuntimeException chunkError) {
+            // chunk 전체가 롤백되었으므로 한 건씩 다시 저장해 실패한 줄만 골라냄
+            List<Post> saved = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                Post post = chunk.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> batchMapper.insertForImport(post));
+                    result.addImported(1);
+                    saved.add(post);
+                } catch (RuntimeException e) {
+                    result.addError(lines.get(i), "저장 실패: " + rootMessage(e));
+                }
+            }
+            applyToReadModels(saved, missingKeys);
+        }
+    }
+
+    // 커밋된 chunk를 메모리 색인/목록 저장소/건수에 반영
+    // 드라이버가 생성된 ID를 돌려주지 않았으면 가져오기가 끝난 뒤 한 번 전체를 다시 적재
+    private void applyToReadModels(List<Post> saved, boolean[] missingKeys) {
+        if (saved.isEmpty() || missingKeys[0]) {
+            return;
+        }
+        if (saved.stream().anyMatch(post -> post.getId() == null)) {
+            missingKeys[0] = true;
+            return;
+        }
+        postSearchIndex.indexAll(saved);
+        postSummaryStore.addAll(saved);
+        saved.forEach(post -> postCountCache.increment(post.getAuthorId()));
+        postWriteVersion.bump();
+    }
+
+    private Post parse(String line, User importer, Map<String, Optional<User>> authors) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("JSON 형식이 아닙니다");
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("JSON 객체가 아닙니다");
+        }
+
+        String title = text(node, "title");
+        String content = text(node, "content");
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("제목은 필수입니다");
+        }
+        if (title.length() > TITLE_MAX_LENGTH) {
+            throw new IllegalArgumentException("제목은 200자 이하여야 합니다");
+        }
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("내용은 필수입니다");
+        }
+
+        // 작성자 이메일이 없으면 가져오기를 실행한 관리자를 작성자로 사용
+        String authorEmail = text(node, "authorEmail");
+        User author = authorEmail == null
+                ? importer
+                : authors.computeIfAbsent(authorEmail, userService::findByEmail)
+                        .orElseThrow(() -> new IllegalArgumentException("작성자를 찾을 수 없습니다: " + authorEmail));
+
+        LocalDateTime createdAt;
+        try {
+            String value = text(node, "createdAt");
+            createdAt = value != null
+                    ? LocalDateTime.parse(value).truncatedTo(ChronoUnit.SECONDS)
+                    : LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("작성 시각 형식이 잘못되었습니다 (예: 2024-01-01T12:00:00)");
+        }
+
+        JsonNode viewCount = node.get("viewCount");
+        if (viewCount != null && !viewCount.isNull() && (!viewCount.canConvertToInt() || viewCount.asInt() < 0)) {
+            throw new IllegalArgumentException("조회수는 0 이상의 정수여야 합니다");
+        }
+
+        Post post = new Post();
+        post.setTitle(title);
+        post.setContent(content);
+        post.setExcerpt(Post.createExcerpt(content));
+        post.setAuthorId(author.getId());
+        post.setAuthorName(author.getName());
+        post.setAuthorEmail(author.getEmail());
+        post.setViewCount(viewCount != null && !viewCount.isNull() ? viewCount.asInt() : 0);
+        post.setCreatedAt(createdAt);
+        post.setUpdatedAt(createdAt);
+        return post;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    // ID를 알 수 없는 게시글이 있을 때만 사용하는 전체 재적재
+    private void refreshReadModels() {
+        postSearchIndex.rebuild();
+        postSummaryStore.load();
+        postCountCache.resync();
+        postCountCache.invalidateAuthorCounts();
+        postWriteVersion.bump();
+    }
+
+    /**
+     * 가져오기 결과 (오류는 최대 maxReportedErrors건까지만 상세 기록)
+     */
+    public static class ImportResult {
+        private final int maxReportedErrors;
+        private long imported;
+        private long failed;
+        private long elapsedMillis;
+        private final List<Map<String, Object>> errors = new ArrayList<>();
+
+        ImportResult(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void addImported(long count) {
+            imported += count;
+        }
+
+        void addError(int line, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                Map<String, Object> error = new HashMap<>();
+                error.put("line", line);
+                error.put("error", message);
+                errors.add(error);
+            }
+        }
+
+        void setElapsedMillis(long elapsedMillis) {
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public long getImported() {
+            return imported;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public double getPostsPerSecond() {
+            return elapsedMillis > 0 ? imported * 1000.0 / elapsedMillis : imported;
+        }
+
+        public List<Map<String, Object>> getErrors() {
+            return errors;
+        }
+    }
+}
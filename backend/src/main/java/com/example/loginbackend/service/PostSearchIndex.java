@@ -0,0 +1,302 @@
+package com.example.loginbackend.service;
+
+import com.example.loginbackend.entity.Post;
+import com.example.loginbackend.mapper.PostMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/내용에 대한 메모리 역색인
+ * 2-gram 단위로 등장 위치를 기록하므로 띄어쓰기와 무관하게 한글 부분 문자열도 검색됩니다.
+ * 위치 정보로 연속 여부를 확인하기 때문에 LIKE '%키워드%'와 같은 결과(대소문자 무시)를 정확한 건수와 함께 돌려줍니다.
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PostSearchIndex.class);
+
+    private static final int GRAM_SIZE = 2;
+
+    // 제목과 내용의 경계, 본문 끝 표시 (검색어에는 나올 수 없는 문자)
+    private static final char FIELD_SEPARATOR = '\0';
+
+    // 제목 일치 가중치
+    private static final int TITLE_WEIGHT = 5;
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // n-gram → (게시글 ID → 등장 위치 오름차순)
+    private final Map<String, Map<Long, int[]>> postings = new HashMap<>();
+
+    // 게시글 ID → 색인 정보 (갱신/삭제 시 기존 n-gram 제거용)
+    private final Map<Long, IndexedPost> indexedPosts = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    // DB 초기화(CommandLineRunner)가 끝난 뒤 테이블 전체로 색인 재구성
+    // 기동 시간 기록(StartupTimeline)이 색인 시간까지 포함하도록 먼저 실행
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            indexedPosts.clear();
+            postMapper.scanForSearchIndex(context -> add(context.getResultObject()));
+            ready = true;
+            log.info("검색 색인 구성 완료: 게시글 {}건, n-gram {}개", indexedPosts.size(), postings.size());
+        } catch (Exception e) {
+            log.warn("검색 색인 구성 실패 (LIKE 검색으로 대체)", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 게시글 추가 또는 갱신
+    public void index(Post post) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(post.getId());
+            add(post);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 여러 게시글을 한 번의 잠금으로 추가 (일괄 가져오기 chunk 반영용)
+    public void indexAll(List<Post> posts) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Post post : posts) {
+                removeInternal(post.getId());
+                add(post);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드를 포함하는 게시글을 점수 순(제목 일치 우선, 같은 점수면 최신 ID 우선)으로 조회합니다.
+     */
+    public SearchResult search(String keyword, int offset, int size) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+
+        List<long[]> hits; // {postId, score}
+        lock.readLock().lock();
+        try {
+            hits = query.length() < GRAM_SIZE ? matchSingleChar(query.charAt(0)) : matchPhrase(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort((a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(b[0], a[0]));
+
+        List<Long> postIds = new ArrayList<>(Math.max(0, Math.min(size, hits.size() - offset)));
+        for (int i = offset; i < hits.size() && i < offset + size; i++) {
+            postIds.add(hits.get(i)[0]);
+        }
+        return new SearchResult(postIds, hits.size());
+    }
+
+    // 2자 이상 검색어: 가장 희소한 n-gram의 게시글만 후보로 두고 위치 연속 여부 확인
+    private List<long[]> matchPhrase(String query) {
+        int gramCount = query.length() - GRAM_SIZE + 1;
+        List<Map<Long, int[]>> queryPostings = new ArrayList<>(gramCount);
+        Map<Long, int[]> rarest = null;
+        for (int i = 0; i < gramCount; i++) {
+            Map<Long, int[]> gramPostings = postings.get(query.substring(i, i + GRAM_SIZE));
+            if (gramPostings == null) {
+                return new ArrayList<>();
+            }
+            queryPostings.add(gramPostings);
+            if (rarest == null || gramPostings.size() < rarest.size()) {
+                rarest = gramPostings;
+            }
+        }
+
+        List<long[]> hits = new ArrayList<>();
+        for (Long postId : rarest.keySet()) {
+            int[] starts = queryPostings.get(0).get(postId);
+            if (starts == null) {
+                continue;
+            }
+            int titleLength = indexedPosts.get(postId).titleLength;
+            long score = 0;
+            for (int start : starts) {
+                if (matchesAt(queryPostings, postId, start)) {
+                    score += start < titleLength ? TITLE_WEIGHT : 1;
+                }
+            }
+            if (score > 0) {
+                hits.add(new long[]{postId, score});
+            }
+        }
+        return hits;
+    }
+
+    private static boolean matchesAt(List<Map<Long, int[]>> queryPostings, Long postId, int start) {
+        for (int i = 1; i < queryPostings.size(); i++) {
+            int[] positions = queryPostings.get(i).get(postId);
+            if (positions == null || Arrays.binarySearch(positions, start + i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 1자 검색어: 해당 문자로 시작하는 모든 n-gram의 위치를 합산
+    private List<long[]> matchSingleChar(char c) {
+        Map<Long, Long> scores = new HashMap<>();
+        for (Map.Entry<String, Map<Long, int[]>> entry : postings.entrySet()) {
+            if (entry.getKey().charAt(0) != c) {
+                continue;
+            }
+            for (Map.Entry<Long, int[]> posting : entry.getValue().entrySet()) {
+                int titleLength = indexedPosts.get(posting.getKey()).titleLength;
+                long score = 0;
+                for (int position : posting.getValue()) {
+                    score += position < titleLength ? TITLE_WEIGHT : 1;
+                }
+                scores.merge(posting.getKey(), score, Long::sum);
+            }
+        }
+        List<long[]> hits = new ArrayList<>(scores.size());
+        scores.forEach((postId, score) -> hits.add(new long[]{postId, score}));
+        return hits;
+    }
+
+    // 쓰기 잠금을 잡은 상태에서 호출
+    private void add(Post post) {
+        String title = normalize(post.getTitle());
+        String text = title + FIELD_SEPARATOR + normalize(post.getContent()) + FIELD_SEPARATOR;
+
+        // n-gram별 등장 위치 수집 (모든 실제 문자가 어떤 n-gram의 첫 글자가 되도록 구분자로 끝남)
+        Map<String, int[]> positionsByGram = new HashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            if (text.charAt(i) == FIELD_SEPARATOR) {
+                continue;
+            }
+            String gram = text.substring(i, i + GRAM_SIZE);
+            int count = counts.getOrDefault(gram, 0);
+            int[] positions = positionsByGram.get(gram);
+            if (positions == null) {
+                positions = new int[4];
+            } else if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            positions[count] = i;
+            positionsByGram.put(gram, positions);
+            counts.put(gram, count + 1);
+        }
+
+        String[] grams = new String[positionsByGram.size()];
+        int index = 0;
+        for (Map.Entry<String, int[]> entry : positionsByGram.entrySet()) {
+            String gram = entry.getKey();
+            int[] positions = Arrays.copyOf(entry.getValue(), counts.get(gram));
+            postings.computeIfAbsent(gram, g -> new HashMap<>()).put(post.getId(), positions);
+            grams[index++] = gram;
+        }
+        indexedPosts.put(post.getId(), new IndexedPost(title.length(), grams));
+    }
+
+    // 쓰기 잠금을 잡은 상태에서 호출
+    private void removeInternal(Long postId) {
+        IndexedPost indexed = indexedPosts.remove(postId);
+        if (indexed == null) {
+            return;
+        }
+        for (String gram : indexed.grams) {
+            Map<Long, int[]> gramPostings = postings.get(gram);
+            if (gramPostings != null) {
+                gramPostings.remove(postId);
+                if (gramPostings.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static class IndexedPost {
+        private final int titleLength;
+        private final String[] grams;
+
+        IndexedPost(int titleLength, String[] grams) {
+            this.titleLength = titleLength;
+            this.grams = grams;
+        }
+    }
+
+    // 검색 결과 (현재 페이지의 게시글 ID와 전체 일치 건수)
+    public static class SearchResult {
+        private final List<Long> postIds;
+        private final long totalCount;
+
+        public SearchResult(List<Long> postIds, long totalCount) {
+            this.postIds = postIds;
+            this.totalCount = totalCount;
+        }
+
+        // Getters
+        public List<Long> getPostIds() { return postIds; }
+        public long getTotalCount() { return totalCount; }
+    }
+}
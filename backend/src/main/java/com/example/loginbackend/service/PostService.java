@@ -1,5 +1,8 @@
 package com.example.loginbackend.service;
 
+import com.example.loginbackend.dto.PostCursor;
+import com.example.loginbackend.dto.PostListResponse;
+import com.example.loginbackend.dto.PostSummaryRows;
 import com.example.loginbackend.dto.PostRequest;
 import com.example.loginbackend.dto.PostResponse;
 import com.example.loginbackend.entity.Post;
@@ -7,11 +10,23 @@ import com.example.loginbackend.entity.User;
 import com.example.loginbackend.mapper.PostMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,48 +36,154 @@ public class PostService {
     @Autowired
     private PostMapper postMapper;
     
+    @Autowired
+    private ViewCountAggregator viewCountAggregator;
+    
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+    
+    @Autowired
+    private PostCountCache postCountCache;
+    
+    @Autowired
+    private PostWriteVersion postWriteVersion;
+    
+    @Autowired
+    private PostSummaryStore postSummaryStore;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    // 목록 저장소에 없는 페이지를 DB에서 읽을 때만 여는 읽기 전용 트랜잭션
+    private TransactionTemplate readOnlyTransaction;
+    
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+    
     // 게시글 생성
     public PostResponse createPost(PostRequest request, User author) {
         Post post = new Post();
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
+        post.setExcerpt(Post.createExcerpt(request.getContent()));
         post.setAuthorId(author.getId());
         post.setAuthorName(author.getName());
         post.setAuthorEmail(author.getEmail());
-        post.setCreatedAt(LocalDateTime.now());
-        post.setUpdatedAt(LocalDateTime.now());
+        // 목록 저장소와 DB의 정렬 기준이 같도록 초 단위로 맞춰 저장
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        post.setCreatedAt(now);
+        post.setUpdatedAt(now);
         
         postMapper.save(post);
+        afterCommit(() -> {
+            postSearchIndex.index(post);
+            postSummaryStore.add(post);
+            postCountCache.increment(post.getAuthorId());
+            postWriteVersion.bump();
+        });
         return PostResponse.from(post);
     }
     
     // 게시글 목록 조회 (페이징)
-    @Transactional(readOnly = true)
-    public PostResponse.PagedResult getAllPosts(int page, int size) {
-        int offset = page * size;
-        List<Post> posts = postMapper.findAll(offset, size);
-        long totalCount = postMapper.countAll();
-        int totalPages = (int) Math.ceil((double) totalCount / size);
+    // 목록 저장소가 해당 페이지를 보관하고 있으면 트랜잭션 없이 응답하므로 커넥션을 빌리지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostListResponse getAllPosts(int page, int size) {
+        int offset = offset(page, size);
+        PostSummaryRows stored = postSummaryStore.isReady() ? postSummaryStore.page(offset, size) : null;
+        if (stored != null && postSummaryStore.isComplete()) {
+            long totalCount = postSummaryStore.size();
+            return PostListResponse.page(stored, page, totalPages(totalCount, size), totalCount);
+        }
         
-        List<PostResponse> postResponses = posts.stream()
-                .map(PostResponse::fromSummary)
-                .collect(Collectors.toList());
+        return readOnlyTransaction.execute(status -> {
+            PostSummaryRows posts = stored != null ? stored : PostSummaryRows.of(postMapper.findAll(offset, size));
+            long totalCount = postCountCache.getTotalCount();
+            return PostListResponse.page(posts, page, totalPages(totalCount, size), totalCount);
+        });
+    }
+    
+    // 게시글 목록 조회 (건수 없이 다음 페이지 여부만)
+    // 한 건 더 조회해 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리가 필요 없음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostListResponse getPostsWithoutCount(int page, int size) {
+        int offset = offset(page, size);
+        PostSummaryRows posts = postSummaryStore.isReady() ? postSummaryStore.page(offset, size + 1) : null;
+        if (posts == null) {
+            posts = PostSummaryRows.of(readOnlyTransaction.execute(status -> postMapper.findAll(offset, size + 1)));
+        }
         
-        return new PostResponse.PagedResult(postResponses, page, totalPages, totalCount);
+        boolean hasNext = posts.size() > size;
+        return PostListResponse.slice(posts.limit(size), page, hasNext);
+    }
+    
+    // 게시글 목록 조회 (커서 페이징)
+    // OFFSET 없이 (created_at, id) 인덱스를 따라가므로 페이지 깊이와 무관하게 비용이 일정합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostListResponse getPostsByCursor(String cursor, int size) {
+        PostCursor after = (cursor == null || cursor.isBlank()) ? null : PostCursor.decode(cursor);
+        
+        LocalDateTime cursorCreatedAt = after != null ? after.getCreatedAt() : null;
+        Long cursorId = after != null ? after.getId() : null;
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PostSummaryRows posts = postSummaryStore.isReady()
+                ? postSummaryStore.pageAfter(cursorCreatedAt, cursorId, size + 1)
+                : null;
+        if (posts == null) {
+            posts = PostSummaryRows.of(readOnlyTransaction.execute(
+                    status -> postMapper.findAllAfter(cursorCreatedAt, cursorId, size + 1)));
+        }
+        
+        boolean hasNext = posts.size() > size;
+        String nextCursor = hasNext
+                ? new PostCursor(posts.getCreatedAt(size - 1), posts.getId(size - 1)).encode()
+                : null;
+        
+        return PostListResponse.cursor(posts.limit(size), nextCursor, hasNext);
     }
     
     // 게시글 상세 조회 (조회수 증가)
+    // 조회수는 집계기에 모았다가 주기적으로 일괄 반영하므로 조회 자체는 읽기 전용
+    @Transactional(readOnly = true)
     public Optional<PostResponse> getPostById(Long id) {
         Optional<Post> postOptional = postMapper.findById(id);
         if (postOptional.isPresent()) {
             Post post = postOptional.get();
-            postMapper.incrementViewCount(id);
-            post.incrementViewCount(); // 메모리상 객체도 업데이트
-            return Optional.of(PostResponse.from(post));
+            viewCountAggregator.increment(id);
+            return Optional.of(PostResponse.from(post, viewCountAggregator.pendingCount(id)));
         }
         return Optional.empty();
     }
     
+    // 게시글 마지막 변경 시각 (조건부 GET 판단용, 본문은 읽지 않음)
+    // 글 수정뿐 아니라 작성자 이름/이메일 반영도 변경으로 봄
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getPostLastModified(Long id) {
+        return Optional.ofNullable(postMapper.findLastModifiedById(id));
+    }
+    
+    // 304 응답처럼 본문 없이 조회만 집계
+    public void recordView(Long id) {
+        viewCountAggregator.increment(id);
+    }
+    
+    // 게시글 ETag (마지막 변경 시각 기준, 조회수 변화는 포함하지 않음)
+    public static String postETag(Long id, LocalDateTime lastModified) {
+        return "W/\"post-" + id + "-" + toEpochMillis(lastModified) + "\"";
+    }
+    
+    // 목록 ETag (쓰기 버전 + 요청 조건, DB 조회 없음)
+    public String listETag(String variant) {
+        return "W/\"posts-" + postWriteVersion.token() + "-" + variant + "\"";
+    }
+    
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
     // 게시글 수정
     public Optional<PostResponse> updatePost(Long id, PostRequest request, User currentUser) {
         Optional<Post> postOptional = postMapper.findById(id);
@@ -76,9 +197,15 @@ public class PostService {
             
             post.setTitle(request.getTitle());
             post.setContent(request.getContent());
+            post.setExcerpt(Post.createExcerpt(request.getContent()));
             post.setUpdatedAt(LocalDateTime.now());
             
             postMapper.update(post);
+            afterCommit(() -> {
+                postSearchIndex.index(post);
+                postSummaryStore.update(post);
+                postWriteVersion.bump();
+            });
             return Optional.of(PostResponse.from(post));
         }
         return Optional.empty();
@@ -97,38 +224,108 @@ public class PostService {
             }
             
             postMapper.deleteById(id);
+            postMapper.recordDeletion(id);
+            afterCommit(() -> {
+                postSearchIndex.remove(id);
+                postSummaryStore.remove(id);
+                postCountCache.decrement(post.getAuthorId());
+                postWriteVersion.bump();
+            });
             return true;
         }
         return false;
     }
     
     // 게시글 검색
+    // 색인이 준비되어 있으면 메모리 역색인으로 순위/건수를 구하고 해당 페이지만 ID로 조회
     @Transactional(readOnly = true)
-    public PostResponse.PagedResult searchPosts(String keyword, int page, int size) {
-        int offset = page * size;
-        List<Post> posts = postMapper.findByKeyword(keyword, offset, size);
-        long totalCount = postMapper.countByKeyword(keyword);
-        int totalPages = (int) Math.ceil((double) totalCount / size);
+    public PostListResponse searchPosts(String keyword, int page, int size) {
+        int offset = offset(page, size);
+        List<Post> posts;
+        long totalCount;
+        if (postSearchIndex.isReady() && !keyword.isBlank()) {
+            PostSearchIndex.SearchResult hits = postSearchIndex.search(keyword, offset, size);
+            posts = findInOrder(hits.getPostIds());
+            totalCount = hits.getTotalCount();
+        } else {
+            posts = postMapper.findByKeyword(keyword, offset, size);
+            totalCount = postCountCache.getKeywordCount(keyword);
+        }
         
-        List<PostResponse> postResponses = posts.stream()
-                .map(PostResponse::fromSummary)
+        return PostListResponse.search(PostSummaryRows.of(posts), page, totalPages(totalCount, size), totalCount, keyword);
+    }
+    
+    // 페이지 시작 위치 (page * size가 int 범위를 넘는 깊은 페이지는 잘못된 요청으로 처리)
+    private static int offset(int page, int size) {
+        long offset = (long) page * size;
+        if (page < 0 || offset > Integer.MAX_VALUE - size - 1L) {
+            throw new IllegalArgumentException("페이지 번호가 너무 큽니다");
+        }
+        return (int) offset;
+    }
+    
+    private static int totalPages(long totalCount, int size) {
+        return (int) Math.ceil((double) totalCount / size);
+    }
+    
+    // ID 목록 순서대로 게시글 조회 (그 사이 삭제된 게시글은 제외)
+    private List<Post> findInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Post> postsById = postMapper.findByIds(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return ids.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+    }
+    
+    // 커밋된 뒤에만 메모리 색인 등에 반영 (롤백된 변경이 남지 않도록)
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    // 사용자별 게시글 조회 (커서 페이징)
+    // (author_id, created_at, id) 인덱스를 따라 한 페이지만 읽으므로 작성자의 게시글 수와 무관하게 비용이 일정합니다.
+    @Transactional(readOnly = true)
+    public PostListResponse getPostsByAuthor(Long authorId, String cursor, int size) {
+        PostCursor after = (cursor == null || cursor.isBlank()) ? null : PostCursor.decode(cursor);
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Post> posts = postMapper.findByAuthorAfter(
+                authorId,
+                after != null ? after.getCreatedAt() : null,
+                after != null ? after.getId() : null,
+                size + 1);
         
-        return new PostResponse.PagedResult(postResponses, page, totalPages, totalCount);
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = posts.subList(0, size);
+        }
+        String nextCursor = hasNext ? PostCursor.of(posts.get(posts.size() - 1)).encode() : null;
+        
+        return PostListResponse.cursor(PostSummaryRows.of(posts), nextCursor, hasNext);
     }
     
-    // 사용자별 게시글 조회
+    // 사용자별 게시글 수
     @Transactional(readOnly = true)
-    public List<PostResponse> getPostsByAuthor(Long authorId) {
-        List<Post> posts = postMapper.findByAuthorId(authorId);
-        return posts.stream()
-                .map(PostResponse::fromSummary)
-                .collect(Collectors.toList());
+    public long getPostCountByAuthor(Long authorId) {
+        return postCountCache.getAuthorCount(authorId);
     }
     
     // 게시글 총 개수
     @Transactional(readOnly = true)
     public long getTotalPostCount() {
-        return postMapper.countAll();
+        return postCountCache.getTotalCount();
     }
 }
\ No newline at end of file
@@ -0,0 +1,873 @@
+package com.example.loginbackend.service;
+
+import com.example.loginbackend.dto.PostListResponse;
+import com.example.loginbackend.dto.PostSummaryRows;
+import com.example.loginbackend.entity.AuthorPropagationJob;
+import com.example.loginbackend.entity.Post;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.example.loginbackend.mapper.AuthorPropagationJobMapper;
+import com.example.loginbackend.mapper.PostMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 목록용 메모리 읽기 모델
+ * 요약 정보를 컬럼 단위 기본형 배열(ID, 작성 시각, 조회수)과 UTF-8 바이트 배열(제목, 요약)로 보관하고
+ * 작성자 이름/이메일은 작성자 ID 기준으로 한 번만 저장합니다.
+ * created_at, id 순서로 정렬된 상태를 유지하며 가장 최근 max-entries 건만 보관합니다.
+ * 조회 결과(Page)는 행마다 객체를 만들지 않고 컬럼 값만 복사해 두었다가 JsonGenerator로 바로 씁니다.
+ * 이 인스턴스의 쓰기는 커밋 직후 바로 반영하고, 다른 인스턴스의 쓰기는 sync-interval-ms마다
+ * posts.changed_at / post_deletions / author_propagation_jobs를 증분 조회해 반영합니다.
+ * 행 시각은 문장 실행 시각이고 커밋은 그 뒤에 일어나므로, 증분 조회는 기준 시각보다 sync-lookback-ms 만큼
+ * 앞에서부터 다시 읽습니다. (같은 행을 다시 반영해도 결과는 같음)
+ */
+@Component
+public class PostSummaryStore {
+
+    private static final Logger log = LoggerFactory.getLogger(PostSummaryStore.class);
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // 증분 동기화에서 바뀐 게시글 요약을 한 번에 다시 읽는 최대 건수 (IN 목록 크기)
+    private static final int SYNC_FETCH_BATCH = 1000;
+
+    // 객체/배열 헤더와 참조 크기 (압축 포인터 기준 추정치)
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${posts.summary-store.enabled:true}")
+    private boolean enabled;
+
+    @Value("${posts.summary-store.max-entries:1000000}")
+    private int maxEntries;
+
+    // 게시글 쓰기 트랜잭션이 커밋되기까지 걸릴 수 있는 최대 시간보다 길게 설정
+    @Value("${posts.summary-store.sync-lookback-ms:60000}")
+    private long syncLookbackMillis;
+
+    // 삭제 기록 보관 기간 (sync-lookback-ms보다 길어야 함)
+    @Value("${posts.summary-store.deletion-retention-ms:86400000}")
+    private long deletionRetentionMillis;
+
+    @Autowired
+    private AuthorPropagationJobMapper authorPropagationJobMapper;
+
+    @Autowired
+    private PostWriteVersion postWriteVersion;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 슬롯별 컬럼 (삭제/밀려난 슬롯은 재사용)
+    private long[] ids;
+    private long[] createdAts; // epoch 마이크로초 (LocalDateTime을 UTC 기준으로 인코딩)
+    private int[] viewCounts;
+    private int[] authorRefs;
+    private byte[][] texts; // [제목 바이트 수 2바이트][제목 UTF-8][요약 UTF-8]
+    private int slotCount;
+    private int[] freeSlots;
+    private int freeCount;
+    private long textBytes;
+
+    // (created_at, id) 오름차순 슬롯 번호, 유효 구간은 order[head..tail)
+    private int[] order;
+    private int head;
+    private int tail;
+
+    private LongIntMap slotById;
+
+    // 작성자 ID 기준 중복 제거된 작성자 정보
+    private final Map<Long, Integer> authorRefById = new HashMap<>();
+    private final List<Author> authors = new ArrayList<>();
+
+    private volatile boolean ready = false;
+
+    // 마지막 증분 동기화 기준 시각 (DB 시각 기준)
+    private volatile LocalDateTime syncWatermark;
+
+    // 되돌아보기 구간 안에서 이미 반영한 게시글 ID → changed_at (같은 행의 요약을 주기마다 다시 읽지 않도록, sync 스레드 전용)
+    private final Map<Long, LocalDateTime> syncedChanges = new HashMap<>();
+
+    // 테이블의 모든 게시글을 보관하고 있는지 (오래된 게시글을 잘라냈으면 false)
+    private volatile boolean complete = false;
+
+    @PostConstruct
+    public void init() {
+        reset(INITIAL_CAPACITY);
+        Gauge.builder("posts.summary.store.entries", this, PostSummaryStore::size)
+                .description("메모리 목록 저장소의 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("posts.summary.store.bytes", this, PostSummaryStore::footprintBytes)
+                .description("메모리 목록 저장소의 추정 힙 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // DB 초기화(CommandLineRunner)가 끝난 뒤 최신 게시글부터 max-entries 건 적재
+    // 기동 시간 기록(StartupTimeline)이 적재 시간까지 포함하도록 먼저 실행
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            reset(INITIAL_CAPACITY);
+            // 기준 시각을 먼저 잡아 두어야 적재 도중의 변경분을 다음 동기화에서 놓치지 않음
+            syncWatermark = postMapper.findCurrentTime();
+            syncedChanges.clear();
+            final boolean[] truncated = {false};
+            List<Integer> newestFirst = new ArrayList<>();
+            postMapper.scanSummariesNewestFirst(maxEntries + 1, context -> {
+                if (context.getResultCount() > maxEntries) {
+                    truncated[0] = true;
+                    context.stop();
+                    return;
+                }
+                newestFirst.add(putSlot(context.getResultObject()));
+            });
+
+            ensureOrderCapacity(newestFirst.size());
+            for (int i = newestFirst.size() - 1; i >= 0; i--) {
+                order[tail++] = newestFirst.get(i);
+            }
+            complete = !truncated[0];
+            ready = true;
+            log.info("목록 저장소 적재 완료: 게시글 {}건, 작성자 {}명, 약 {}MB{}", size(), authors.size(),
+                    footprintBytes() / (1024 * 1024), complete ? "" : " (최근 게시글만 보관)");
+        } catch (Exception e) {
+            log.warn("목록 저장소 적재 실패 (DB 조회로 대체)", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 게시글 생성/수정/삭제, 조회수 반영, 작성자 정보 변경을 증분 조회해 반영
+     * 목록에 보이는 내용이 바뀌었으면 목록 ETag 버전을 올립니다. (조회수는 제외)
+     */
+    @Scheduled(fixedDelayString = "${posts.summary-store.sync-interval-ms:5000}")
+    public void sync() {
+        if (!enabled || !ready) {
+            return;
+        }
+        try {
+            LocalDateTime now = postMapper.findCurrentTime();
+            LocalDateTime since = syncWatermark.minusNanos(syncLookbackMillis * 1_000_000L);
+            List<Post> changes = postMapper.findChangesSince(since);
+            List<Long> changedIds = new ArrayList<>();
+            for (Post change : changes) {
+                if (!Objects.equals(syncedChanges.get(change.getId()), change.getChangedAt())) {
+                    changedIds.add(change.getId());
+                }
+            }
+            List<Post> changed = new ArrayList<>(changedIds.size());
+            for (int from = 0; from < changedIds.size(); from += SYNC_FETCH_BATCH) {
+                changed.addAll(postMapper.findByIds(
+                        changedIds.subList(from, Math.min(from + SYNC_FETCH_BATCH, changedIds.size()))));
+            }
+            List<Long> deleted = postMapper.findDeletedIdsSince(since);
+            List<AuthorPropagationJob> renames = authorPropagationJobMapper.findCreatedSince(since);
+
+            // 되돌아보기 구간 때문에 같은 행을 여러 번 읽으므로, 읽기 잠금에서 실제로 다른 행만 골라 쓰기 잠금 시간을 줄임
+            List<Post> differing = new ArrayList<>();
+            List<byte[]> differingTexts = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                for (Post post : changed) {
+                    byte[] text = encodeText(post.getTitle(), post.getExcerpt());
+                    if (differs(post, text)) {
+                        differing.add(post);
+                        differingTexts.add(text);
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            boolean modified = false;
+            lock.writeLock().lock();
+            try {
+                List<Post> added = new ArrayList<>();
+                for (int i = 0; i < differing.size(); i++) {
+                    modified |= syncInternal(differing.get(i), differingTexts.get(i), added);
+                }
+                if (!added.isEmpty()) {
+                    mergeInternal(added);
+                    modified = true;
+                }
+                // 삭제는 변경 반영 뒤에 적용 (변경 조회 직후 삭제된 행이 다시 남지 않도록)
+                for (Long postId : deleted) {
+                    if (slotById.get(postId) >= 0) {
+                        removeInternal(postId);
+                        modified = true;
+                    }
+                }
+                // 작성자 정보는 게시글 행이 아니라 반영 작업 기준 (행에는 반영 전 이름이 남아 있을 수 있음)
+                for (AuthorPropagationJob job : renames) {
+                    modified |= renameAuthorInternal(job.getAuthorId(), job.getAuthorName(), job.getAuthorEmail());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            syncWatermark = now;
+            syncedChanges.values().removeIf(changedAt -> changedAt.isBefore(since));
+            for (Post change : changes) {
+                syncedChanges.put(change.getId(), change.getChangedAt());
+            }
+            if (modified) {
+                postWriteVersion.bump();
+            }
+            postMapper.purgeDeletionsBefore(now.minusNanos(deletionRetentionMillis * 1_000_000L));
+        } catch (Exception e) {
+            log.warn("목록 저장소 동기화 실패 (다음 주기에 다시 시도)", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tail - head;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 최신순 offset부터 limit건 조회
+     * 보관하지 않는 오래된 구간까지 필요하면 null을 반환하므로 호출 측에서 DB로 조회합니다.
+     */
+    public PostSummaryRows page(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int start = tail - 1 - offset;
+            return collect(start, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 커서 (createdAt, id) 다음(더 오래된) 게시글부터 limit건 조회 (보관 범위를 벗어나면 null)
+     */
+    public PostSummaryRows pageAfter(LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        lock.readLock().lock();
+        try {
+            int start = cursorCreatedAt == null || cursorId == null
+                    ? tail - 1
+                    : lowerBound(encodeTime(cursorCreatedAt), cursorId) - 1;
+            return collect(start, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 잠금을 잡은 상태에서 호출 (잠금을 놓은 뒤에도 바뀌지 않도록 컬럼 값을 복사)
+    private Page collect(int start, int limit) {
+        if (start >= tail) {
+            // 보관 범위보다 새로운 위치는 있을 수 없으므로 빈 페이지 (음수 offset 등 잘못된 입력 방어)
+            return new Page(0);
+        }
+        if (!complete && (long) start - limit + 1 < head) {
+            return null;
+        }
+        int count = Math.max(0, Math.min(limit, start - head + 1));
+        Page page = new Page(count);
+        for (int row = 0; row < count; row++) {
+            int slot = order[start - row];
+            page.ids[row] = ids[slot];
+            page.createdAts[row] = createdAts[slot];
+            page.viewCounts[row] = viewCounts[slot];
+            page.texts[row] = texts[slot];
+            page.authors[row] = authors.get(authorRefs[slot]);
+        }
+        return page;
+    }
+
+    // 게시글 추가 (이미 있으면 교체)
+    public void add(Post post) {
+        addAll(List.of(post));
+    }
+
+    // 여러 게시글을 한 번의 잠금으로 추가 (일괄 가져오기 chunk 반영용)
+    // 정렬 배열에는 한 번의 병합으로 넣으므로 과거 작성 시각의 게시글이 많아도 chunk당 O(n + k log k)
+    public void addAll(List<Post> posts) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                return;
+            }
+            mergeInternal(posts);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 제목/요약 갱신 (작성 시각은 변하지 않음)
+    public void update(Post post) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int slot = slotById.get(post.getId());
+            if (slot >= 0) {
+                setText(slot, post.getTitle(), post.getExcerpt());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // DB에 반영된 조회수 증가분 적용
+    public void addViewCounts(Map<Long, Long> deltas) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            deltas.forEach((postId, delta) -> {
+                int slot = slotById.get(postId);
+                if (slot >= 0) {
+                    viewCounts[slot] = (int) Math.min(Integer.MAX_VALUE, viewCounts[slot] + delta);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 작성자 이름/이메일 변경 (작성자 정보는 한 곳에만 있으므로 O(1))
+    public void renameAuthor(Long authorId, String authorName, String authorEmail) {
+        lock.writeLock().lock();
+        try {
+            renameAuthorInternal(authorId, authorName, authorEmail);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장소가 차지하는 힙 크기 추정치 (배열 용량 기준)
+     */
+    public long footprintBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = arrayBytes(8, ids.length)
+                    + arrayBytes(8, createdAts.length)
+                    + arrayBytes(4, viewCounts.length)
+                    + arrayBytes(4, authorRefs.length)
+                    + arrayBytes(REFERENCE_BYTES, texts.length)
+                    + arrayBytes(4, freeSlots.length)
+                    + arrayBytes(4, order.length)
+                    + slotById.footprintBytes()
+                    + textBytes;
+            for (Author author : authors) {
+                bytes += 24 + stringBytes(author.name) + stringBytes(author.email);
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void reset(int capacity) {
+        ids = new long[capacity];
+        createdAts = new long[capacity];
+        viewCounts = new int[capacity];
+        authorRefs = new int[capacity];
+        texts = new byte[capacity][];
+        slotCount = 0;
+        freeSlots = new int[16];
+        freeCount = 0;
+        textBytes = 0;
+        order = new int[capacity];
+        head = 0;
+        tail = 0;
+        slotById = new LongIntMap(capacity);
+        authorRefById.clear();
+        authors.clear();
+        complete = false;
+    }
+
+    // 쓰기 잠금을 잡은 상태에서 호출: 슬롯에 컬럼 값 기록 (정렬 배열에는 넣지 않음)
+    private int putSlot(Post post) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == ids.length) {
+                growSlots();
+            }
+            slot = slotCount++;
+        }
+        ids[slot] = post.getId();
+        createdAts[slot] = encodeTime(post.getCreatedAt());
+        viewCounts[slot] = post.getViewCount() != null ? post.getViewCount() : 0;
+        authorRefs[slot] = authorRef(post.getAuthorId(), post.getAuthorName(), post.getAuthorEmail());
+        setText(slot, post.getTitle(), post.getExcerpt());
+        slotById.put(post.getId(), slot);
+        return slot;
+    }
+
+    private void releaseSlot(int slot) {
+        slotById.remove(ids[slot]);
+        if (texts[slot] != null) {
+            textBytes -= arrayBytes(1, texts[slot].length);
+            texts[slot] = null;
+        }
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    // 게시글들을 (created_at, id) 순으로 정렬해 슬롯에 기록한 뒤 정렬 배열 뒤쪽에서부터 한 번에 병합 (이미 있으면 교체)
+    // 가장 최근 게시글이 대부분인 일반적인 경우에는 기존 원소가 거의 움직이지 않음
+    private void mergeInternal(List<Post> posts) {
+        List<Post> sorted = new ArrayList<>(posts);
+        sorted.sort(Comparator.comparing(Post::getCreatedAt).thenComparing(Post::getId));
+
+        // 보관 범위보다 오래된 게시글은 넣지 않음 (전체를 보관 중이 아닐 때)
+        boolean bounded = !complete;
+        long oldestCreatedAt = 0;
+        long oldestId = 0;
+        if (bounded && tail > head) {
+            oldestCreatedAt = createdAts[order[head]];
+            oldestId = ids[order[head]];
+        }
+
+        int[] added = new int[sorted.size()];
+        int count = 0;
+        Long previousId = null;
+        for (Post post : sorted) {
+            if (post.getId().equals(previousId)) {
+                continue;
+            }
+            previousId = post.getId();
+            long createdAt = encodeTime(post.getCreatedAt());
+            if (bounded && (tail == head || compare(createdAt, post.getId(), oldestCreatedAt, oldestId) <= 0)) {
+                removeInternal(post.getId());
+                continue;
+            }
+            if (slotById.get(post.getId()) >= 0) {
+                removeInternal(post.getId());
+            }
+            added[count++] = putSlot(post);
+        }
+        if (count == 0) {
+            return;
+        }
+
+        if (tail + count > order.length) {
+            ensureOrderCapacity(tail - head + count);
+        }
+        int read = tail - 1;
+        int write = tail + count - 1;
+        for (int next = count - 1; next >= 0; next--) {
+            int slot = added[next];
+            while (read >= head && compare(createdAts[order[read]], ids[order[read]], createdAts[slot], ids[slot]) > 0) {
+                order[write--] = order[read--];
+            }
+            order[write--] = slot;
+        }
+        tail += count;
+
+        while (tail - head > maxEntries) {
+            releaseSlot(order[head++]);
+            complete = false;
+        }
+    }
+
+    // 저장소 슬롯이 DB 행과 다른지 (없는 게시글 포함, 작성자 정보는 반영 작업으로 따로 맞춤)
+    private boolean differs(Post post, byte[] text) {
+        int slot = slotById.get(post.getId());
+        return slot < 0
+                || createdAts[slot] != encodeTime(post.getCreatedAt())
+                || viewCounts[slot] != (post.getViewCount() != null ? post.getViewCount() : 0)
+                || !Arrays.equals(text, texts[slot]);
+    }
+
+    // DB 행으로 슬롯을 맞춤 (목록에 보이는 내용이 바뀌었으면 true, 조회수 변경은 제외)
+    // 저장소에 없는 게시글은 added에 모아 두었다가 한 번에 병합
+    private boolean syncInternal(Post post, byte[] text, List<Post> added) {
+        int slot = slotById.get(post.getId());
+        if (slot < 0 || createdAts[slot] != encodeTime(post.getCreatedAt())) {
+            added.add(post);
+            return false;
+        }
+        viewCounts[slot] = post.getViewCount() != null ? post.getViewCount() : 0;
+        if (Arrays.equals(text, texts[slot])) {
+            return false;
+        }
+        setText(slot, text);
+        return true;
+    }
+
+    private boolean renameAuthorInternal(Long authorId, String authorName, String authorEmail) {
+        Integer ref = authorRefById.get(authorId);
+        if (ref == null) {
+            return false;
+        }
+        Author author = authors.get(ref);
+        if (Objects.equals(author.name, authorName) && Objects.equals(author.email, authorEmail)) {
+            return false;
+        }
+        authors.set(ref, new Author(authorName, authorEmail));
+        return true;
+    }
+
+    private void removeInternal(Long postId) {
+        int slot = slotById.get(postId);
+        if (slot < 0) {
+            return;
+        }
+        int pos = lowerBound(createdAts[slot], ids[slot]);
+        if (pos < tail && order[pos] == slot) {
+            System.arraycopy(order, pos + 1, order, pos, tail - pos - 1);
+            tail--;
+        }
+        releaseSlot(slot);
+    }
+
+    // 앞쪽 빈 공간을 당기거나 배열을 늘려 최소 required개를 담을 수 있게 함
+    private void ensureOrderCapacity(int required) {
+        int live = tail - head;
+        if (head > 0 && required <= order.length) {
+            System.arraycopy(order, head, order, 0, live);
+        } else if (required > order.length || head > 0) {
+            int[] grown = new int[Math.max(required, order.length + (order.length >> 1))];
+            System.arraycopy(order, head, grown, 0, live);
+            order = grown;
+        }
+        head = 0;
+        tail = live;
+    }
+
+    private void growSlots() {
+        int capacity = ids.length + (ids.length >> 1);
+        ids = Arrays.copyOf(ids, capacity);
+        createdAts = Arrays.copyOf(createdAts, capacity);
+        viewCounts = Arrays.copyOf(viewCounts, capacity);
+        authorRefs = Arrays.copyOf(authorRefs, capacity);
+        texts = Arrays.copyOf(texts, capacity);
+    }
+
+    // (createdAt, id) 이상인 첫 위치
+    private int lowerBound(long createdAt, long id) {
+        int low = head;
+        int high = tail;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int slot = order[mid];
+            if (compare(createdAts[slot], ids[slot], createdAt, id) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(long createdAt, long id, long otherCreatedAt, long otherId) {
+        return createdAt != otherCreatedAt ? Long.compare(createdAt, otherCreatedAt) : Long.compare(id, otherId);
+    }
+
+    private int authorRef(Long authorId, String authorName, String authorEmail) {
+        Integer ref = authorRefById.get(authorId);
+        if (ref == null) {
+            ref = authors.size();
+            authors.add(new Author(authorName, authorEmail));
+            authorRefById.put(authorId, ref);
+        }
+        return ref;
+    }
+
+    private void setText(int slot, String title, String excerpt) {
+        setText(slot, encodeText(title, excerpt));
+    }
+
+    private void setText(int slot, byte[] text) {
+        if (texts[slot] != null) {
+            textBytes -= arrayBytes(1, texts[slot].length);
+        }
+        texts[slot] = text;
+        textBytes += arrayBytes(1, text.length);
+    }
+
+    private static byte[] encodeText(String title, String excerpt) {
+        byte[] titleBytes = title != null ? title.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        byte[] excerptBytes = excerpt != null ? excerpt.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        byte[] text = new byte[2 + titleBytes.length + excerptBytes.length];
+        text[0] = (byte) (titleBytes.length >>> 8);
+        text[1] = (byte) titleBytes.length;
+        System.arraycopy(titleBytes, 0, text, 2, titleBytes.length);
+        System.arraycopy(excerptBytes, 0, text, 2 + titleBytes.length, excerptBytes.length);
+        return text;
+    }
+
+    static long encodeTime(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    static LocalDateTime decodeTime(long epochMicros) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochMicros, 1_000_000L),
+                (int) Math.floorMod(epochMicros, 1_000_000L) * 1_000,
+                ZoneOffset.UTC);
+    }
+
+    private static long arrayBytes(int elementBytes, int length) {
+        return align(ARRAY_HEADER_BYTES + (long) elementBytes * length);
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 24 + arrayBytes(1, value.length() * 2);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static final class Author {
+        private final String name;
+        private final String email;
+
+        Author(String name, String email) {
+            this.name = name;
+            this.email = email;
+        }
+    }
+
+    /**
+     * 목록 저장소 조회 결과 (불변)
+     * 제목/요약 바이트 배열과 작성자는 교체만 되고 고쳐 쓰지 않으므로 참조만 복사합니다.
+     */
+    private static final class Page implements PostSummaryRows {
+        private final long[] ids;
+        private final long[] createdAts;
+        private final int[] viewCounts;
+        private final byte[][] texts;
+        private final Author[] authors;
+        private final int size;
+
+        Page(int capacity) {
+            this(new long[capacity], new long[capacity], new int[capacity], new byte[capacity][], new Author[capacity],
+                    capacity);
+        }
+
+        private Page(long[] ids, long[] createdAts, int[] viewCounts, byte[][] texts, Author[] authors, int size) {
+            this.ids = ids;
+            this.createdAts = createdAts;
+            this.viewCounts = viewCounts;
+            this.texts = texts;
+            this.authors = authors;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public long getId(int row) {
+            return ids[row];
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt(int row) {
+            return decodeTime(createdAts[row]);
+        }
+
+        @Override
+        public PostSummaryRows limit(int maxRows) {
+            return maxRows >= size ? this : new Page(ids, createdAts, viewCounts, texts, authors, maxRows);
+        }
+
+        // PostListResponse.writeSummary와 같은 필드 순서
+        @Override
+        public void writeRows(JsonGenerator json) throws IOException {
+            boolean utf8 = json instanceof UTF8JsonGenerator;
+            char[] buffer = new char[32];
+            for (int row = 0; row < size; row++) {
+                byte[] text = texts[row];
+                int titleLength = ((text[0] & 0xFF) << 8) | (text[1] & 0xFF);
+                long createdAt = createdAts[row];
+
+                json.writeStartObject();
+                json.writeNumberField("id", ids[row]);
+                json.writeFieldName("title");
+                writeText(json, utf8, text, 2, titleLength);
+                json.writeNullField("content");
+                json.writeFieldName("excerpt");
+                writeText(json, utf8, text, 2 + titleLength, text.length - 2 - titleLength);
+                json.writeStringField("authorName", authors[row].name);
+                json.writeStringField("authorEmail", authors[row].email);
+                json.writeFieldName("createdAt");
+                PostListResponse.writeDateTime(json, Math.floorDiv(createdAt, 1_000_000L),
+                        (int) Math.floorMod(createdAt, 1_000_000L) * 1_000, buffer);
+                json.writeNullField("updatedAt");
+                json.writeNumberField("viewCount", viewCounts[row]);
+                json.writeEndObject();
+            }
+        }
+
+        // UTF-8 출력이면 저장된 바이트를 그대로 씀 (이스케이프는 생성기가 처리)
+        private static void writeText(JsonGenerator json, boolean utf8, byte[] text, int offset, int length)
+                throws IOException {
+            if (utf8) {
+                json.writeUTF8String(text, offset, length);
+            } else {
+                json.writeString(new String(text, offset, length, StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * 게시글 ID → 슬롯 번호 맵 (long 키를 박싱하지 않는 선형 탐사 해시 테이블, 0은 빈 칸)
+     */
+    private static final class LongIntMap {
+        private long[] keys;
+        private int[] values;
+        private int mask;
+        private int shift;
+        private int size;
+
+        LongIntMap(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2) - 1) << 1;
+            keys = new long[capacity];
+            values = new int[capacity];
+            mask = capacity - 1;
+            shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        }
+
+        int get(long key) {
+            for (int i = index(key); ; i = (i + 1) & mask) {
+                long k = keys[i];
+                if (k == 0) {
+                    return -1;
+                }
+                if (k == key) {
+                    return values[i];
+                }
+            }
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int i = index(key);
+            while (keys[i] != 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == 0) {
+                size++;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        void remove(long key) {
+            int gap = index(key);
+            while (keys[gap] != key) {
+                if (keys[gap] == 0) {
+                    return;
+                }
+                gap = (gap + 1) & mask;
+            }
+            // 뒤따르는 항목을 당겨서 탐사 경로가 끊기지 않게 함
+            for (int j = (gap + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+                int home = index(keys[j]);
+                if (((j - home) & mask) >= ((j - gap) & mask)) {
+                    keys[gap] = keys[j];
+                    values[gap] = values[j];
+                    gap = j;
+                }
+            }
+            keys[gap] = 0;
+            size--;
+        }
+
+        long footprintBytes() {
+            return arrayBytes(8, keys.length) + arrayBytes(4, values.length);
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            mask = keys.length - 1;
+            shift = 64 - Integer.numberOfTrailingZeros(keys.length);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        // 곱셈 해시의 상위 비트를 용량에 맞는 개수만큼 사용 (용량이 2^24를 넘어도 모든 칸을 씀)
+        private int index(long key) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+        }
+    }
+}
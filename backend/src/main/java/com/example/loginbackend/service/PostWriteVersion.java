@@ -0,0 +1,32 @@
+package com.example.loginbackend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 쓰기 버전
+ * 생성/수정/삭제가 커밋될 때마다 증가하며, 목록 ETag를 DB 조회 없이 만들기 위해 사용합니다.
+ * 버전은 인스턴스마다 따로 관리되므로 다른 인스턴스의 변경은 ETag에 포함된 시간 구간이
+ * 바뀔 때 반영됩니다 (최대 max-staleness-seconds 만큼 늦게 반영될 수 있음).
+ * 조회수는 버전에 포함하지 않습니다.
+ */
+@Component
+public class PostWriteVersion {
+
+    @Value("${posts.etag.max-staleness-seconds:5}")
+    private long maxStalenessSeconds;
+
+    private final AtomicLong version = new AtomicLong();
+
+    public void bump() {
+        version.incrementAndGet();
+    }
+
+    // 목록 ETag용 토큰 (버전 + 시간 구간)
+    public String token() {
+        long bucket = System.currentTimeMillis() / (Math.max(1, maxStalenessSeconds) * 1000L);
+        return version.get() + "." + bucket;
+    }
+}
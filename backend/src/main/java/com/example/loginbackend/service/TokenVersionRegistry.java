@@ -0,0 +1,101 @@
+package com.example.loginbackend.service;
+
+import com.example.loginbackend.entity.User;
+import com.example.loginbackend.mapper.UserMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 토큰 버전을 메모리에 보관하는 테이블
+ * 토큰 클레임만으로 인증할 때 폐기된 토큰을 DB 조회 없이 걸러내기 위해 사용합니다.
+ * 버전이 0인 사용자는 저장하지 않으며, 주기적으로 변경된 사용자만 증분 조회합니다.
+ * updated_at은 문장 실행 시각으로 기록되고 커밋은 그 뒤에 일어나므로, 증분 조회는 기준 시각보다
+ * lookback-ms 만큼 앞에서부터 다시 읽어 늦게 커밋된 변경도 놓치지 않습니다. (버전은 큰 값만 반영하므로 중복 조회는 무해)
+ */
+@Component
+public class TokenVersionRegistry {
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Value("${jwt.stateless-auth.enabled:false}")
+    private boolean enabled;
+
+    // 사용자 수정 트랜잭션이 커밋되기까지 걸릴 수 있는 최대 시간보다 길게 설정
+    @Value("${jwt.stateless-auth.lookback-ms:60000}")
+    private long lookbackMillis;
+
+    private final Map<Long, Integer> versions = new ConcurrentHashMap<>();
+
+    // 마지막으로 반영한 users.updated_at (DB 시각 기준)
+    private volatile LocalDateTime watermark;
+
+    private volatile boolean loaded = false;
+
+    // DB 초기화(CommandLineRunner)가 끝난 뒤 최초 적재
+    // 기동 시간 기록(StartupTimeline)이 적재 시간까지 포함하도록 먼저 실행
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void load() {
+        if (enabled) {
+            refreshVersions();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.stateless-auth.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (!enabled || !loaded) {
+            return;
+        }
+        refreshVersions();
+    }
+
+    private void refreshVersions() {
+        LocalDateTime since = watermark;
+        LocalDateTime latest = since;
+        if (since == null) {
+            // 최초 적재: 기준 시각을 먼저 잡아 두어야 적재 도중의 변경분을 다음 갱신에서 놓치지 않음
+            latest = userMapper.findLatestUpdatedAt();
+        }
+
+        // 기준 시각 직전에 기록되었지만 아직 커밋되지 않았던 행까지 다시 읽도록 lookback-ms 만큼 겹쳐서 조회
+        LocalDateTime from = since != null ? since.minusNanos(lookbackMillis * 1_000_000L) : null;
+        List<User> changed = userMapper.findTokenVersions(from);
+        for (User user : changed) {
+            apply(user.getId(), user.getTokenVersion());
+            if (user.getUpdatedAt() != null && (latest == null || user.getUpdatedAt().isAfter(latest))) {
+                latest = user.getUpdatedAt();
+            }
+        }
+        watermark = latest;
+        loaded = true;
+    }
+
+    // 이 인스턴스에서 버전을 올린 경우 다음 갱신을 기다리지 않고 즉시 반영
+    public void apply(Long userId, Integer version) {
+        if (userId == null || version == null) {
+            return;
+        }
+        versions.merge(userId, version, Math::max);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 토큰에 담긴 버전이 현재 버전 이상이면 유효
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return tokenVersion >= versions.getOrDefault(userId, 0);
+    }
+}
@@ -2,15 +2,26 @@ package com.example.loginbackend.service;
 
 import com.example.loginbackend.entity.User;
 import com.example.loginbackend.mapper.UserMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class UserService implements UserDetailsService {
@@ -21,9 +32,49 @@ public class UserService implements UserDetailsService {
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private AuthorPropagationService authorPropagationService;
+    
+    @Value("${users.cache.max-size:10000}")
+    private long cacheMaxSize;
+    
+    @Value("${users.cache.ttl-seconds:60}")
+    private long cacheTtlSeconds;
+    
+    @Value("${jwt.stateless-auth.enabled:false}")
+    private boolean statelessAuthEnabled;
+    
+    // UserMapper.findByEmail / findById 앞단 캐시 (존재하지 않는 사용자는 캐시하지 않음)
+    private Cache<String, User> usersByEmail;
+    private Cache<Long, User> usersById;
+    
+    @PostConstruct
+    public void initCaches() {
+        usersByEmail = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        usersById = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        
+        // cache.gets{result=hit|miss}, cache.evictions 등으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByEmail, "users.byEmail");
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.byId");
+    }
+    
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userMapper.findByEmail(email)
+        return findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
     }
     
@@ -61,8 +112,98 @@ public class UserService implements UserDetailsService {
         return user;
     }
     
+    // 사용자의 토큰 버전을 올려 기존에 발급된 토큰을 모두 무효화
+    public void revokeTokens(Long userId) {
+        userMapper.incrementTokenVersion(userId);
+        Optional<User> user = userMapper.findById(userId);
+        usersById.invalidate(userId);
+        user.ifPresent(u -> {
+            usersByEmail.invalidate(u.getEmail());
+            tokenVersionRegistry.apply(u.getId(), u.getTokenVersion());
+        });
+    }
+    
     public Optional<User> findByEmail(String email) {
-        return userMapper.findByEmail(email);
+        User cached = usersByEmail.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<User> user = userMapper.findByEmail(email);
+        user.ifPresent(this::cache);
+        return user;
+    }
+    
+    public Optional<User> findById(Long id) {
+        User cached = usersById.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<User> user = userMapper.findById(id);
+        user.ifPresent(this::cache);
+        return user;
+    }
+    
+    // 사용자 정보 수정 (커밋 후 캐시 무효화)
+    // 이름이나 이메일이 바뀌면 게시글에 복사된 작성자 정보를 백그라운드에서 고쳐 쓰도록 작업을 함께 등록
+    // 토큰 클레임 인증 모드에서는 이름이 토큰에 담겨 있으므로 토큰 버전을 올려 재발급을 강제
+    // 반환값: 기존 토큰이 무효화되었는지 여부
+    @Transactional
+    public boolean updateUser(User user) {
+        Optional<User> existing = userMapper.findById(user.getId());
+        userMapper.update(user);
+        
+        boolean nameChanged = existing.filter(u -> !Objects.equals(u.getName(), user.getName())).isPresent();
+        boolean emailChanged = user.getEmail() != null
+                && existing.filter(u -> !Objects.equals(u.getEmail(), user.getEmail())).isPresent();
+        if (nameChanged || emailChanged) {
+            String authorEmail = user.getEmail() != null ? user.getEmail() : existing.get().getEmail();
+            authorPropagationService.enqueue(user.getId(), user.getName(), authorEmail);
+        }
+        
+        boolean tokensRevoked = statelessAuthEnabled && nameChanged;
+        if (tokensRevoked) {
+            userMapper.incrementTokenVersion(user.getId());
+            Integer tokenVersion = userMapper.findById(user.getId()).map(User::getTokenVersion).orElse(null);
+            afterCommit(() -> tokenVersionRegistry.apply(user.getId(), tokenVersion));
+        }
+        
+        // 커밋 전에 무효화하면 동시 조회가 아직 커밋되지 않은 이전 행을 다시 캐시할 수 있으므로 커밋 후에 제거
+        // 이메일이 바뀐 경우 이전 이메일로 캐시된 항목도 제거 (TTL 동안 옛 정보로 로그인되지 않도록)
+        afterCommit(() -> {
+            usersById.invalidate(user.getId());
+            existing.ifPresent(u -> usersByEmail.invalidate(u.getEmail()));
+            if (user.getEmail() != null) {
+                usersByEmail.invalidate(user.getEmail());
+            }
+        });
+        return tokensRevoked;
+    }
+    
+    // 커밋된 뒤에만 메모리 상태에 반영 (롤백된 변경이 남지 않도록)
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    // 사용자 삭제 (캐시 무효화)
+    public void deleteUser(Long id) {
+        Optional<User> existing = userMapper.findById(id);
+        userMapper.deleteById(id);
+        usersById.invalidate(id);
+        existing.ifPresent(u -> usersByEmail.invalidate(u.getEmail()));
+    }
+    
+    private void cache(User user) {
+        usersByEmail.put(user.getEmail(), user);
+        usersById.put(user.getId(), user);
     }
     
     public boolean validatePassword(String rawPassword, String encodedPassword) {
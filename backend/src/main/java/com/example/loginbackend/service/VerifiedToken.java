@@ -0,0 +1,108 @@
+package com.example.loginbackend.service;
+
+import com.example.loginbackend.entity.User;
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * 서명과 만료 검증을 통과한 JWT의 클레임
+ * 한 번 파싱한 결과를 요청 처리 전 과정에서 재사용하기 위한 불변 객체입니다.
+ */
+public final class VerifiedToken {
+
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_NAME = "name";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_TOKEN_VERSION = "ver";
+
+    private final String subject;
+    private final long issuedAtMillis;
+    private final long expirationMillis;
+
+    // 토큰 클레임 인증 모드에서만 채워지는 사용자 정보 (없으면 null)
+    private final Long userId;
+    private final String name;
+    private final String role;
+    private final Integer tokenVersion;
+
+    private VerifiedToken(String subject, long issuedAtMillis, long expirationMillis,
+                          Long userId, String name, String role, Integer tokenVersion) {
+        this.subject = subject;
+        this.issuedAtMillis = issuedAtMillis;
+        this.expirationMillis = expirationMillis;
+        this.userId = userId;
+        this.name = name;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+    }
+
+    static VerifiedToken from(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        Number tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+        return new VerifiedToken(
+            claims.getSubject(),
+            issuedAt != null ? issuedAt.getTime() : 0L,
+            expiration != null ? expiration.getTime() : Long.MAX_VALUE,
+            userId != null ? userId.longValue() : null,
+            claims.get(CLAIM_NAME, String.class),
+            claims.get(CLAIM_ROLE, String.class),
+            tokenVersion != null ? tokenVersion.intValue() : null
+        );
+    }
+
+    public boolean isExpired() {
+        return expirationMillis <= System.currentTimeMillis();
+    }
+
+    // 사용자 조회 없이 인증 주체를 만들 수 있는 클레임을 모두 갖고 있는지 여부
+    public boolean hasIdentityClaims() {
+        return subject != null && userId != null && name != null && role != null && tokenVersion != null;
+    }
+
+    // 클레임만으로 인증 주체 생성 (비밀번호는 담지 않음)
+    public User toPrincipal() {
+        User user = new User();
+        user.setId(userId);
+        user.setEmail(subject);
+        user.setName(name);
+        user.setRole(User.Role.valueOf(role));
+        user.setTokenVersion(tokenVersion);
+        return user;
+    }
+
+    // Getters
+    public String getSubject() {
+        return subject;
+    }
+
+    public Date getIssuedAt() {
+        return new Date(issuedAtMillis);
+    }
+
+    public Date getExpiration() {
+        return new Date(expirationMillis);
+    }
+
+    public long getExpirationMillis() {
+        return expirationMillis;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+}
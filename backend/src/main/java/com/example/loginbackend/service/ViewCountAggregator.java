@@ -0,0 +1,129 @@
+package com.example.loginbackend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 집계기
+ * 조회마다 UPDATE 하지 않고 메모리에 모아 두었다가 주기적으로 한 번의 JDBC 배치로 반영합니다.
+ */
+@Component
+public class ViewCountAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(ViewCountAggregator.class);
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ?, changed_at = NOW() WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostSummaryStore postSummaryStore;
+
+    // 아직 반영하지 않은 증가분
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 직전 반영 때 맵에서 떼어낸 카운터 (떼어내는 순간 늦게 도착한 증가분을 다음 반영 때 회수)
+    private volatile Map<Long, LongAdder> retired = Collections.emptyMap();
+
+    // DB에 반영 중인 증가분 (반영하는 동안에도 조회수가 줄어 보이지 않도록)
+    private volatile Map<Long, Long> inFlight = Collections.emptyMap();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    // DB에 아직 반영되지 않은 조회수 (응답의 조회수에 더해 사용)
+    public long pendingCount(Long postId) {
+        long count = 0;
+        LongAdder adder = pending.get(postId);
+        if (adder != null) {
+            count += adder.sum();
+        }
+        LongAdder retiredAdder = retired.get(postId);
+        if (retiredAdder != null) {
+            count += retiredAdder.sum();
+        }
+        Long flushing = inFlight.get(postId);
+        if (flushing != null) {
+            count += flushing;
+        }
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${posts.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            // 행 잠금 순서를 일정하게 유지하기 위해 ID 순으로 반영
+            Map<Long, Long> deltas = new TreeMap<>();
+
+            for (Map.Entry<Long, LongAdder> entry : retired.entrySet()) {
+                drain(entry.getKey(), entry.getValue(), deltas);
+            }
+
+            Map<Long, LongAdder> detached = new HashMap<>();
+            for (Long postId : pending.keySet()) {
+                LongAdder adder = pending.remove(postId);
+                if (adder != null) {
+                    detached.put(postId, adder);
+                    drain(postId, adder, deltas);
+                }
+            }
+            retired = detached;
+
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            inFlight = deltas;
+            try {
+                List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+                deltas.forEach((postId, delta) -> batchArgs.add(new Object[]{delta, postId}));
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+                postSummaryStore.addViewCounts(deltas);
+            } catch (Exception e) {
+                // 반영에 실패한 증가분은 버리지 않고 다음 반영 때 다시 시도
+                log.warn("조회수 반영 실패 (다음 주기에 재시도): {}건", deltas.size(), e);
+                deltas.forEach((postId, delta) ->
+                        pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            } finally {
+                inFlight = Collections.emptyMap();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료 시 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 읽은 만큼만 빼서 동시에 들어온 증가분은 잃지 않음
+    private static void drain(Long postId, LongAdder adder, Map<Long, Long> deltas) {
+        long count = adder.sum();
+        if (count != 0) {
+            adder.add(-count);
+            deltas.merge(postId, count, Long::sum);
+        }
+    }
+}
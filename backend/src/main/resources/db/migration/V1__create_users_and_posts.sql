@@ -1,23 +1,21 @@
--- 기존 테이블 삭제 (완전 초기화)
-DROP TABLE IF EXISTS posts;
-DROP TABLE IF EXISTS users;
-
 -- 사용자 테이블
-CREATE TABLE users (
+CREATE TABLE IF NOT EXISTS users (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     email VARCHAR(255) NOT NULL UNIQUE,
     password VARCHAR(255) NOT NULL,
     name VARCHAR(100) NOT NULL,
     role VARCHAR(20) DEFAULT 'USER',
+    token_version INT DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
 -- 게시글 테이블
-CREATE TABLE posts (
+CREATE TABLE IF NOT EXISTS posts (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     title VARCHAR(200) NOT NULL,
     content TEXT NOT NULL,
+    excerpt VARCHAR(300),
     author_id BIGINT NOT NULL,
     author_name VARCHAR(100) NOT NULL,
     author_email VARCHAR(255) NOT NULL,
@@ -25,4 +23,4 @@ CREATE TABLE posts (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
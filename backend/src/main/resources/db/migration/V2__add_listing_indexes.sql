@@ -0,0 +1,8 @@
+-- 토큰 버전 증분 조회용 인덱스 (TokenVersionRegistry)
+CREATE INDEX IF NOT EXISTS idx_users_updated_at ON users (updated_at);
+
+-- 목록 조회(키셋 페이징, 최신순 적재) 정렬 순서와 동일한 인덱스
+CREATE INDEX IF NOT EXISTS idx_posts_created_at_id ON posts (created_at DESC, id DESC);
+
+-- 작성자별 게시글(내 게시글) 커서 페이징 및 작성자별 건수, 외래 키 조회용 인덱스
+CREATE INDEX IF NOT EXISTS idx_posts_author_created_at_id ON posts (author_id, created_at DESC, id DESC);
@@ -0,0 +1,19 @@
+-- 게시글에 복사된 작성자 정보(author_name, author_email) 반영 작업
+CREATE TABLE IF NOT EXISTS author_propagation_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    author_id BIGINT NOT NULL,
+    author_name VARCHAR(100) NOT NULL,
+    author_email VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    cursor_created_at TIMESTAMP NULL,
+    cursor_id BIGINT NULL,
+    processed_rows BIGINT NOT NULL DEFAULT 0,
+    total_rows BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP NULL
+);
+
+-- 대기 중인 작업 조회 / 작성자별 최근 작업 조회용 인덱스
+CREATE INDEX IF NOT EXISTS idx_author_propagation_jobs_status_id ON author_propagation_jobs (status, id);
+CREATE INDEX IF NOT EXISTS idx_author_propagation_jobs_author_id ON author_propagation_jobs (author_id, id);
@@ -0,0 +1,3 @@
+-- 작성자 정보(author_name, author_email) 반영 시각
+-- updated_at(글 수정 시각)은 그대로 두고, 상세 조회의 ETag/Last-Modified는 둘 중 늦은 시각을 기준으로 합니다.
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS author_updated_at TIMESTAMP NULL;
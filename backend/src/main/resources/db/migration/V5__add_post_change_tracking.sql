@@ -0,0 +1,13 @@
+-- 인스턴스별 메모리 목록 저장소(PostSummaryStore)가 다른 인스턴스의 변경을 증분 조회하기 위한 변경 기록
+-- changed_at: 행이 마지막으로 바뀐 시각 (생성/수정/조회수 반영/작성자 정보 반영 모두 갱신)
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS changed_at TIMESTAMP NULL DEFAULT CURRENT_TIMESTAMP;
+UPDATE posts SET changed_at = COALESCE(updated_at, created_at) WHERE changed_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_posts_changed_at ON posts (changed_at);
+
+-- 삭제된 게시글 기록 (행이 사라지므로 changed_at으로는 알 수 없음, 보관 기간이 지나면 정리)
+CREATE TABLE IF NOT EXISTS post_deletions (
+    post_id BIGINT PRIMARY KEY,
+    deleted_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_post_deletions_deleted_at ON post_deletions (deleted_at);